@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) Gleidson Neves da Silveira
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.gn.decorator;
+
+import com.gn.decorator.resize.ResizeZone;
+import java.util.Objects;
+import javafx.beans.property.Property;
+import javafx.scene.Cursor;
+import javafx.scene.Node;
+
+/**
+ * Cursors and ids of the decoration, written only when the value changes.
+ * The drag handlers ask for the same state on every event, setting a
+ * property to the value it already holds would still invalidate the node.
+ * Create on  17/10/2026
+ * Version 1.0
+ */
+public class ChromeState {
+
+    private final Node border;
+
+    private boolean resizeCursor = true;
+
+    private long updates;
+    private long suppressed;
+
+    /**
+     * @param border Node that shows the resize cursors.
+     */
+    public ChromeState(Node border) {
+        this.border = border;
+    }
+
+    /**
+     * Enables the resize cursors on the border.
+     * @param resizeCursor true if the border shows the resize cursors.
+     */
+    public void setResizeCursor(boolean resizeCursor) {
+        if (this.resizeCursor == resizeCursor) {
+            suppressed++;
+            return;
+        }
+        this.resizeCursor = resizeCursor;
+        if (!resizeCursor) {
+            setZone(ResizeZone.NONE);
+        }
+    }
+
+    public boolean isResizeCursor() {
+        return resizeCursor;
+    }
+
+    /**
+     * Shows the cursor of the zone under the pointer.
+     * @param zone Zone under the pointer.
+     */
+    public void setZone(ResizeZone zone) {
+        update(border.cursorProperty(), zone == ResizeZone.NONE ? null : zone.getCursor());
+    }
+
+    /**
+     * Sets the value if it is different from the current one.
+     * @param property Property to change.
+     * @param value    New value.
+     * @return true if the property was written.
+     */
+    public <T> boolean update(Property<T> property, T value) {
+        if (Objects.equals(property.getValue(), value)) {
+            suppressed++;
+            return false;
+        }
+        property.setValue(value);
+        updates++;
+        return true;
+    }
+
+    public void setCursor(Node node, Cursor cursor) {
+        update(node.cursorProperty(), cursor);
+    }
+
+    public void setId(Node node, String id) {
+        update(node.idProperty(), id);
+    }
+
+    /**
+     * @return Number of properties written.
+     */
+    public long getUpdateCount() {
+        return updates;
+    }
+
+    /**
+     * @return Number of writes skipped because the value did not change.
+     */
+    public long getSuppressedCount() {
+        return suppressed;
+    }
+
+    public void resetStatistics() {
+        updates = 0;
+        suppressed = 0;
+    }
+}
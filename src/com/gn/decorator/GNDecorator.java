@@ -16,19 +16,39 @@
  */
 package com.gn.decorator;
 
+import com.gn.decorator.animation.BoundsAnimation;
+import com.gn.decorator.animation.DoubleAnimation;
 import com.gn.decorator.background.GNBackground;
 import com.gn.decorator.buttons.*;
 import com.gn.decorator.component.GNControl;
 import com.gn.decorator.options.ButtonType;
-import javafx.animation.TranslateTransition;
+import com.gn.decorator.options.ContentMode;
+import com.gn.decorator.options.ResizeMode;
+import com.gn.decorator.options.WindowState;
+import com.gn.decorator.geometry.Box;
+import com.gn.decorator.geometry.SizeConstraints;
+import com.gn.decorator.geometry.WindowGeometry;
+import com.gn.decorator.layout.DecoratorPane;
+import com.gn.decorator.metrics.DragLatency;
+import com.gn.decorator.resize.BoundsCoalescer;
+import com.gn.decorator.resize.ResizeEngine;
+import com.gn.decorator.resize.ResizeOutline;
+import com.gn.decorator.resize.ResizeSnapshot;
+import com.gn.decorator.resize.ResizeZone;
+import com.gn.decorator.resize.SettleTimer;
+import com.gn.decorator.screen.ScreenCache;
+import com.gn.decorator.snap.SnapIndex;
+import com.gn.decorator.snap.SnapLayout;
+import com.gn.decorator.snap.SnapZones;
 import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
 import javafx.beans.NamedArg;
 import javafx.beans.property.*;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
-import javafx.collections.ObservableList;
+import javafx.event.Event;
 import javafx.event.EventHandler;
-import javafx.geometry.BoundingBox;
+import javafx.event.EventType;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.geometry.Rectangle2D;
@@ -38,16 +58,13 @@ import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.control.ScrollPane;
-import javafx.scene.image.Image;
-import javafx.scene.image.ImageView;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.*;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.*;
-import javafx.stage.Screen;
 import javafx.stage.Stage;
 import javafx.stage.StageStyle;
-import javafx.util.Duration;
+import javafx.stage.WindowEvent;
 
 /**
  * Create a beautiful decoration for nodes.
@@ -61,26 +78,14 @@ public class GNDecorator {
     private Stage stage = null;
     private Scene scene = null;
 
-    private final AnchorPane body        = new AnchorPane();
     private final ScrollPane container   = new ScrollPane();
     private final StackPane  content     = new StackPane();
     private final StackPane  areaContent = new StackPane(this.container);
 
-    private final Path top_left     = new Path();
-    private final Path top_right    = new Path();
-    private final Path bottom_left  = new Path();
-    private final Path bottom_right = new Path();
-
-    private final AnchorPane left   = new AnchorPane();
-    private final AnchorPane right  = new AnchorPane();
-    private final AnchorPane top    = new AnchorPane();
-    private final AnchorPane bottom = new AnchorPane();
-
-    private final AnchorPane    bar              = new AnchorPane();
-    private final HBox          bar_content      = new HBox();
-    private final HBox          controls         = new HBox();
-    private final HBox          menu             = new HBox();
-    private final HBox          title_content    = new HBox();
+    // barra, titulo, botoes e conteudo num so passo | bar, title, buttons and content in one layout pass.
+    private final DecoratorPane body     = new DecoratorPane(this.areaContent);
+    private final Region        bar      = body.getBar();
+    private final HBox          controls = new HBox();
     
     private final Close        btn_close      = new Close();
     private final Maximize     btn_maximize   = new Maximize();
@@ -89,50 +94,205 @@ public class GNDecorator {
     private final Label        title          = new Label("Application");
     private final SVGPath      icon           = new SVGPath();
     
-    private final ImageView viewMinimize    = new ImageView(new Image("/com/gn/resources/img/minimize.png"));
-    private final ImageView viewMaximize    = new ImageView(new Image("/com/gn/resources/img/maximize.png"));
-    private final ImageView viewClose       = new ImageView(new Image("/com/gn/resources/img/close.png"));
+    private boolean disposed = false;
 
-    private static double initX = -1;
-    private static double initY = -1;
+    // estado do arrasto desta janela | drag state of this window only.
+    private boolean moving = false;
 
-    private static double newX;
-    private static double newY;
+    private double initX;
+    private double initY;
+
+    private double moveX;
+    private double moveY;
     
-    private Rectangle2D bounds       = null;
-    private BoundingBox savedBounds  = null;
-    private BoundingBox initialBound = null;
+    private final ScreenCache screens = ScreenCache.getInstance();
+
+    private final Box savedBounds  = new Box();
+    private final Box initialBound = new Box();
 
     private Button btn_ico = new Button();
 
     private final BooleanProperty resizableProperty = new SimpleBooleanProperty(GNDecorator.this, "resizableProperty", true);
     private final StringProperty  titleProperty     = new SimpleStringProperty(GNDecorator.this, "textProperty", "title");
     private final BooleanProperty maximizedProperty = new SimpleBooleanProperty(GNDecorator.this, "maximizedProperty", false);
+
+    private final ReadOnlyObjectWrapper<WindowState> windowState = new ReadOnlyObjectWrapper<>(GNDecorator.this, "windowState", WindowState.NORMAL);
+    private WindowState restingState = WindowState.NORMAL;
    
     private DoubleProperty barHeight = new SimpleDoubleProperty(GNDecorator.this, "barSize", 30);
     private DoubleProperty buttonHeight = new SimpleDoubleProperty(GNDecorator.this, "buttonHeiht", 30);
     private DoubleProperty buttonWidth = new SimpleDoubleProperty(GNDecorator.this, "buttonWidth", 30);
     
     
-    private final TranslateTransition open = new TranslateTransition(Duration.millis(100D), this.bar);
-    private final TranslateTransition close = new TranslateTransition(Duration.millis(100D), this.bar);
+    // passos dados pelo pulso compartilhado | stepped by the pulse shared by all decorations.
+    private final DoubleAnimation barAnimation = new DoubleAnimation(this.bar.translateYProperty());
 
     private EventHandler<MouseEvent> mouseDraggedB;
     private EventHandler<MouseEvent> mousePressedB;
+
+    private final ResizeEngine resizeEngine = new ResizeEngine();
+
+    private final DragLatency latency = new DragLatency();
+
+    private ChromeState chrome = null;
+
+    private final DoubleProperty resizeBorder = new SimpleDoubleProperty(GNDecorator.this, "resizeBorder", 3);
+
+    private final BooleanProperty contentMinimumProperty = new SimpleBooleanProperty(GNDecorator.this, "contentMinimumProperty", false);
+
+    // minimo do conteudo, calculado uma vez | minimum of the content, computed once until the content changes.
+    private boolean contentMinimumValid = false;
+    private double  contentMinWidth;
+    private double  contentMinHeight;
+    private double  bodyMinWidth  = Region.USE_COMPUTED_SIZE;
+    private double  bodyMinHeight = Region.USE_COMPUTED_SIZE;
+
+    private final EventHandler<MouseEvent> resizeMoved = event -> {
+        ResizeZone zone = ResizeZone.NONE;
+        if (chrome.isResizeCursor()) {
+            zone = resizeEngine.hitTest(event.getSceneX(), event.getSceneY(),
+                    scene.getWidth(), scene.getHeight());
+        }
+        chrome.setZone(zone);
+    };
+
+    private final EventHandler<MouseEvent> resizePressed = event -> {
+        if (!event.isPrimaryButtonDown() || !canResize()) {
+            return;
+        }
+        ResizeZone zone = resizeEngine.hitTest(event.getSceneX(), event.getSceneY(),
+                scene.getWidth(), scene.getHeight());
+        if (zone != ResizeZone.NONE) {
+            boundsAnimation.stop();
+            screens.refresh();
+            double minWidth = stage.getMinWidth();
+            double minHeight = stage.getMinHeight();
+            resizeEngine.setChrome(chromeWidth(), chromeHeight());
+            if (isContentMinimum()) {
+                updateContentMinimum();
+                minWidth = Math.max(minWidth, contentMinWidth);
+                minHeight = Math.max(minHeight, contentMinHeight);
+            }
+            resizeEngine.begin(zone, event.getScreenX(), event.getScreenY(),
+                    stage.getX(), stage.getY(), stage.getWidth(), stage.getHeight(),
+                    minWidth, minHeight, stage.getMaxWidth(), stage.getMaxHeight());
+            background.setResizing(true);
+            liveResizing.set(true);
+            settleTimer.hold();
+            if (getResizeMode() == ResizeMode.OUTLINE) {
+                outline.show(stage.getX(), stage.getY(), stage.getWidth(), stage.getHeight());
+            } else if (getResizeMode() == ResizeMode.SNAPSHOT) {
+                snapshot.freeze();
+            }
+            event.consume();
+        }
+    };
+
+    private final EventHandler<MouseEvent> resizeDragged = event -> {
+        if (!event.isPrimaryButtonDown() || !resizeEngine.isActive()) {
+            return;
+        }
+        if (stage.isFullScreen() || event.isStillSincePress()) {
+            return;
+        }
+        long start = System.nanoTime();
+        if (resizeEngine.update(event.getScreenX(), event.getScreenY())) {
+            latency.mark(start);
+            if (outline.isShowing()) {
+                outline.move(resizeEngine.getX(), resizeEngine.getY(),
+                        resizeEngine.getWidth(), resizeEngine.getHeight());
+                latency.commit();
+            } else {
+                submitBounds(resizeEngine.getX(), resizeEngine.getY(),
+                        resizeEngine.getWidth(), resizeEngine.getHeight());
+            }
+        }
+        resizeEngine.measure(System.nanoTime() - start);
+        event.consume();
+    };
+
+    private final EventHandler<MouseEvent> resizeReleased = event -> {
+        if (!resizeEngine.isActive()) {
+            return;
+        }
+        flushBounds();
+        latency.end();
+        if (outline.isShowing()) {
+            outline.hide();
+            setBounds(resizeEngine.getX(), resizeEngine.getY(),
+                    resizeEngine.getWidth(), resizeEngine.getHeight());
+        }
+        snapshot.thaw();
+        resizeEngine.end();
+        background.setResizing(false);
+        liveResizing.set(false);
+        settleTimer.settle();
+        event.consume();
+    };
+
+    private final ObjectProperty<ResizeMode> resizeModeProperty = new SimpleObjectProperty<>(GNDecorator.this, "resizeModeProperty", ResizeMode.LIVE);
+
+    private ResizeOutline outline = null;
+
+    private final ResizeSnapshot snapshot = new ResizeSnapshot(areaContent, container);
+
+    private final ObjectProperty<ContentMode> contentModeProperty = new SimpleObjectProperty<>(GNDecorator.this, "contentModeProperty", ContentMode.WRAPPED);
+
+    private final BoundsCoalescer coalescer = new BoundsCoalescer(this::setBounds);
+
+    private final BoundsAnimation boundsAnimation = new BoundsAnimation(this::setBounds);
+
+    private final BooleanProperty animatedProperty  = new SimpleBooleanProperty(GNDecorator.this, "animatedProperty", false);
+    private final DoubleProperty  animationDuration = new SimpleDoubleProperty(GNDecorator.this, "animationDuration", 200);
+
+    private final BooleanProperty coalescingProperty = new SimpleBooleanProperty(GNDecorator.this, "coalescingProperty", false);
+
+    private final DoubleProperty maxUpdateRate = new SimpleDoubleProperty(GNDecorator.this, "maxUpdateRate", 0);
+    private final DoubleProperty frameBudget   = new SimpleDoubleProperty(GNDecorator.this, "frameBudget", 0);
+
+    private final ReadOnlyBooleanWrapper liveResizing = new ReadOnlyBooleanWrapper(GNDecorator.this, "liveResizing", false);
+    private final ReadOnlyBooleanWrapper liveMoving   = new ReadOnlyBooleanWrapper(GNDecorator.this, "liveMoving", false);
+
+    private final SettleTimer    settleTimer = new SettleTimer(this::fireSettled);
+    private final DoubleProperty quietPeriod = new SimpleDoubleProperty(GNDecorator.this, "quietPeriod", 300);
+
+    private boolean sizeChanged = false;
+
+    private final InvalidationListener sizeListener = observable -> {
+        sizeChanged = true;
+        settleTimer.touch();
+    };
+
+    private final InvalidationListener positionListener = observable -> settleTimer.touch();
+
+    private final SnapIndex snapIndex = SnapIndex.getInstance();
+
+    private final BooleanProperty snappingProperty = new SimpleBooleanProperty(GNDecorator.this, "snappingProperty", false);
+    private final DoubleProperty  snapDistance     = new SimpleDoubleProperty(GNDecorator.this, "snapDistance", 10);
+
+    private final SnapZones snapZones = SnapZones.getInstance();
+
+    private final BooleanProperty snapLayoutsProperty = new SimpleBooleanProperty(GNDecorator.this, "snapLayoutsProperty", false);
+
+    private ResizeOutline snapPreview = null;
+    private SnapLayout    snapLayout  = SnapLayout.NONE;
+    private int           snapScreen  = 0;
     
+    // reads the width as a primitive, a change listener would box both values on every resize event.
+    private final InvalidationListener followWidth = observable -> {
+        double width = stage.getWidth();
+        background.setPrefWidth(width);
+        body.setPrefWidth(width);
+    };
+
     private final ChangeListener<Object> restoreFullScreen = new ChangeListener<Object>() {
         @Override
         public void changed(ObservableValue<? extends Object> observable, Object oldValue, Object newValue) {
-            if (newValue != null) {
-                configCursor(true);
-                AnchorPane.setTopAnchor(GNDecorator.this.areaContent, barHeight.get());
-                btn_fullScreen.updateState(true);
+            if (!stage.isFullScreen()) {
+                GNDecorator.this.body.setContentOverlaid(false);
                 if(!GNDecorator.this.bar.isVisible()){
                     GNDecorator.this.bar.setVisible(true);
-                    viewBorders(true);
                 }
-                if(isResizable() && !isMaximized()) configCursor(true);
-                else configCursor(false);
             }
         }
     };
@@ -140,16 +300,24 @@ public class GNDecorator {
     public GNDecorator() {
         super();
         background =  new GNBackground();
+        chrome = new ChromeState(background);
         configLayout();
         addActions();
         configStage();
-        bounds = Screen.getPrimary().getVisualBounds();
         title.textProperty().bind(titleProperty);
         controls.minHeightProperty().bind(barHeight);
-        menu.minHeightProperty().bind(barHeight);
-        title_content.minHeightProperty().bind(barHeight);
-        this.bar.minHeightProperty().bind(barHeight);
+        this.body.barHeightProperty().bind(barHeight);
         
+        resizeBorder.addListener((observable, oldValue, newValue) -> resizeEngine.setBorder(newValue.doubleValue()));
+        contentMinimumProperty.addListener((observable, oldValue, newValue) -> {
+            updateBodyMinimum();
+            invalidateContentMinimum();
+        });
+        maxUpdateRate.addListener((observable, oldValue, newValue) -> coalescer.setMaxRate(newValue.doubleValue()));
+        frameBudget.addListener((observable, oldValue, newValue) -> coalescer.setFrameBudget(newValue.doubleValue()));
+        quietPeriod.addListener((observable, oldValue, newValue) -> settleTimer.setQuietPeriod(newValue.doubleValue()));
+        contentModeProperty.addListener((observable, oldValue, newValue) -> hostContent(newValue));
+
         controls.getChildren().stream().map((node) -> {
             ((Button) node).minHeightProperty().bind(buttonHeight);
             return node;
@@ -207,10 +375,76 @@ public class GNDecorator {
     }
 
     public boolean isMaximized() {
-        return stage.getWidth() == Screen.getPrimary().getVisualBounds().getWidth()
-                && stage.getHeight() == Screen.getPrimary().getVisualBounds().getHeight()
-                && stage.getX() == Screen.getPrimary().getVisualBounds().getMinX()
-                && stage.getY() == Screen.getPrimary().getVisualBounds().getMinY();
+        return windowState.get() == WindowState.MAXIMIZED;
+    }
+
+    public WindowState getWindowState() {
+        return windowState.get();
+    }
+
+    public ReadOnlyObjectProperty<WindowState> windowStateProperty() {
+        return windowState.getReadOnlyProperty();
+    }
+
+    /**
+     * Muda o estado da janela | Changes the state of the window.
+     * Moving to the current state does nothing. The maximized property
+     * follows the resting state, full screen and minimized do not change it.
+     * @param state New state.
+     * @return true if the state changed.
+     */
+    private boolean transition(WindowState state) {
+        WindowState from = windowState.get();
+        if (from == state) {
+            return false;
+        }
+        boolean wasMaximized = restingState == WindowState.MAXIMIZED;
+        if (state.isResting()) {
+            restingState = state;
+        }
+        windowState.set(state);
+        updateChrome(from, state);
+
+        boolean maximized = restingState == WindowState.MAXIMIZED;
+        if (maximized != wasMaximized) {
+            maximizedProperty.set(maximized);
+        }
+        return true;
+    }
+
+    /**
+     * Atualiza a decoração para o novo estado | Updates the decoration for
+     * the new state, the only place where a transition touches the chrome.
+     * Only the parts whose state differs between the two states are written.
+     */
+    private void updateChrome(WindowState from, WindowState to) {
+        boolean maximized = to == WindowState.MAXIMIZED;
+        if (maximized != (from == WindowState.MAXIMIZED)) {
+            background.setMaximized(maximized);
+            btn_maximize.updateState(!maximized);
+        }
+        boolean fullScreen = to == WindowState.FULLSCREEN;
+        if (fullScreen != (from == WindowState.FULLSCREEN)) {
+            background.setFullScreen(fullScreen);
+            btn_fullScreen.updateState(!fullScreen);
+        }
+        if (resizes(from) != resizes(to)) {
+            configCursor(canResize());
+        }
+    }
+
+    /**
+     * @return true if the window can be resized by the border in the state.
+     */
+    private static boolean resizes(WindowState state) {
+        return state == WindowState.NORMAL || state == WindowState.SNAPPED;
+    }
+
+    /**
+     * @return Visual bounds of the screen that holds most of the stage.
+     */
+    private Rectangle2D screenBounds() {
+        return screens.getVisualBounds(screens.screenFor(stage.getX(), stage.getY(), stage.getWidth(), stage.getHeight()));
     }
 
 
@@ -219,7 +453,7 @@ public class GNDecorator {
         this.resizableProperty.set(resizable);
 
         Platform.runLater(() -> {
-            configCursor(resizable);
+            configCursor(canResize());
 
             if(!resizable) {
                 btn_maximize.setDisable(true);
@@ -247,16 +481,70 @@ public class GNDecorator {
     public BooleanProperty resizableProperty(){
         return this.resizableProperty;
     }
+
+    /**
+     * Sets how the window follows the mouse while it is resized.
+     * @param mode LIVE resizes on each event, OUTLINE only when the mouse is released,
+     *             SNAPSHOT on each event while the content is frozen in a bitmap.
+     */
+    public void setResizeMode(ResizeMode mode){
+        this.resizeModeProperty.set(mode);
+    }
+
+    public ResizeMode getResizeMode(){
+        return this.resizeModeProperty.get();
+    }
+
+    public ObjectProperty<ResizeMode> resizeModeProperty(){
+        return this.resizeModeProperty;
+    }
+
+    /**
+     * Sets how the content is hosted, WRAPPED by default.
+     * @param mode WRAPPED places the content in a scroll pane fitted to the area,
+     *             DIRECT places it in the area, for content that scrolls by itself.
+     */
+    public void setContentMode(ContentMode mode){
+        this.contentModeProperty.set(mode);
+    }
+
+    public ContentMode getContentMode(){
+        return this.contentModeProperty.get();
+    }
+
+    public ObjectProperty<ContentMode> contentModeProperty(){
+        return this.contentModeProperty;
+    }
+
+    /**
+     * Troca o pai do conteudo | Moves the content in or out of the scroll pane,
+     * the snapshot of the resize follows the node that fills the area.
+     */
+    private void hostContent(ContentMode mode) {
+        if (mode == ContentMode.DIRECT) {
+            snapshot.setContent(content);
+            container.setContent(null);
+            areaContent.getChildren().setAll(content);
+        } else {
+            snapshot.setContent(container);
+            areaContent.getChildren().setAll(container);
+            container.setContent(content);
+        }
+        invalidateContentMinimum();
+    }
     
     public void setContent(Node body) {
         if(!this.content.getChildren().isEmpty())
             this.content.getChildren().clear();
 
         if(body instanceof Pane){
-            ((Pane) body).setMinSize(0,0);
+            bodyMinWidth = ((Pane) body).getMinWidth();
+            bodyMinHeight = ((Pane) body).getMinHeight();
         }
 
         this.content.getChildren().add(body);
+        updateBodyMinimum();
+        invalidateContentMinimum();
     }
     
     public StackPane getContent(){
@@ -274,10 +562,8 @@ public class GNDecorator {
     public void setFullScreen(boolean full){
         if(full){
             stage.setFullScreen(true);
-            AnchorPane.setTopAnchor(this.areaContent, 0D);
+            body.setContentOverlaid(true);
             stage.fullScreenProperty().addListener(restoreFullScreen);
-            viewBorders(false);
-            configCursor(false);
             if(bar.isVisible()) bar.setVisible(false);
         }
     }
@@ -288,13 +574,29 @@ public class GNDecorator {
     
     public void setBarHeight(double height){
         this.barHeight.set(height);
-        AnchorPane.setTopAnchor(this.areaContent, height);
+        this.body.setContentOverlaid(false);
     }
     
     public double getBarHeight(){
         return this.barHeight.get();
     }
     
+    public DoubleProperty resizeBorderProperty() {
+        return this.resizeBorder;
+    }
+
+    /**
+     * Sets the thickness of the borders that resize the window.
+     * @param size Thickness in pixels.
+     */
+    public void setResizeBorder(double size) {
+        this.resizeBorder.set(size);
+    }
+
+    public double getResizeBorder() {
+        return this.resizeBorder.get();
+    }
+
     public DoubleProperty buttonHeightProperty() {
         return this.buttonHeight;
     }
@@ -331,6 +633,44 @@ public class GNDecorator {
         
         
         this.stage.setScene(this.scene);
+        this.outline = new ResizeOutline(stage);
+        this.snapPreview = new ResizeOutline(stage, "gn-snap-preview");
+
+        // edges offered to the other decorations while this window is on the screen.
+        this.stage.addEventHandler(WindowEvent.WINDOW_SHOWN, event -> snapIndex.add(stage));
+        this.stage.addEventHandler(WindowEvent.WINDOW_HIDDEN, event -> snapIndex.remove(stage));
+
+        // the content is told once the geometry stops changing.
+        this.stage.widthProperty().addListener(sizeListener);
+        this.stage.heightProperty().addListener(sizeListener);
+        this.stage.xProperty().addListener(positionListener);
+        this.stage.yProperty().addListener(positionListener);
+
+        // window state shown as pseudo classes in the decoration.
+        this.background.focusedWindowProperty().bind(stage.focusedProperty());
+
+        // a gesture can end without its release, when another window takes the focus.
+        this.stage.focusedProperty().addListener((observable, oldValue, focused) -> {
+            if (!focused) {
+                endGestures();
+            }
+        });
+
+        // full screen and minimized follow the stage, then back to the last resting state.
+        this.stage.fullScreenProperty().addListener((observable, oldValue, full) -> {
+            if (full) {
+                transition(WindowState.FULLSCREEN);
+            } else {
+                transition(stage.isIconified() ? WindowState.MINIMIZED : restingState);
+            }
+        });
+        this.stage.iconifiedProperty().addListener((observable, oldValue, iconified) -> {
+            if (iconified) {
+                transition(WindowState.MINIMIZED);
+            } else {
+                transition(stage.isFullScreen() ? WindowState.FULLSCREEN : restingState);
+            }
+        });
         this.stage.setMinWidth(254.0D);
         this.stage.setMinHeight(57.0D);
         stage.widthProperty().divide(scene.heightProperty());
@@ -346,15 +686,11 @@ public class GNDecorator {
         // add body in window
         this.background.getChildren().add(this.body);
         
-        // add bar
-        this.body.getChildren().add(bar());
-        this.bar.getChildren().add(barContent());
-        
         // add components in the bar
-        this.bar_content.getChildren().add(menu());
-        this.bar_content.getChildren().add(controls());
-        this.bar_content.getChildren().add(titleContent());
-        controls.toFront();
+        this.bar.getStyleClass().add("gn-bar");
+        this.body.setLeading(menu());
+        this.body.setTitle(this.title);
+        this.body.setTrailing(controls());
 //        this.setStyle("-fx-border-color : #808080; -fx-border-width : 1");
         
         container.setFitToHeight(true);
@@ -362,155 +698,8 @@ public class GNDecorator {
         
         container.setStyle("-fx-background-color : transparent");
         this.container.setContent(content);
-        this.body.getChildren().add(createRegion());
         
-        // Config Axis in body
-        this.body.getChildren().add(axisTopLeft());
-        this.body.getChildren().add(axisTopRight());
-        this.body.getChildren().add(axisBottomLeft());
-        this.body.getChildren().add(axisBottomRight());
-
-        // Config bars in body
-        this.body.getChildren().add(left());
-        this.body.getChildren().add(right());
-        this.body.getChildren().add(top());
-        this.body.getChildren().add(bottom());
-
         initTheme(Theme.DEFAULT);
-        viewBars(false);
-    }
-
-    private Region createRegion() {
-        
-        AnchorPane.setTopAnchor(areaContent, barHeight.get());
-        AnchorPane.setRightAnchor(areaContent, 0D);
-        AnchorPane.setBottomAnchor(areaContent, 0D);
-        AnchorPane.setLeftAnchor(areaContent, 0D);
-
-        return areaContent;
-    }
-
-
-    private Path axisTopLeft() {
-        top_left.setFill(Color.BLACK);
-        top_left.setCursor(Cursor.NW_RESIZE);
-        top_left.setId("top_left");
-        pathLines(top_left);
-        AnchorPane.setTopAnchor(top_left, 0D);
-        AnchorPane.setLeftAnchor(top_left, 0D);
-        return top_left;
-    }
-
-    private Path axisTopRight() {
-        top_right.setCursor(Cursor.NE_RESIZE);
-        top_right.setId("top_right");
-        pathLines(top_right);
-        top_right.setRotate(90D);
-        AnchorPane.setTopAnchor(top_right, 0D);
-        AnchorPane.setRightAnchor(top_right, 0D);
-        return top_right;
-    }
-
-    private Path axisBottomLeft() {
-        bottom_left.setCursor(Cursor.SW_RESIZE);
-        bottom_left.setId("bottom_left");
-        pathLines(bottom_left);
-        bottom_left.setRotate(270D);
-        AnchorPane.setLeftAnchor(bottom_left, 0D);
-        AnchorPane.setBottomAnchor(bottom_left, 0D);
-        return bottom_left;
-    }
-
-    private Path axisBottomRight() {
-        bottom_right.setCursor(Cursor.SE_RESIZE);
-        bottom_right.setId("bottom_right");
-        pathLines(bottom_right);
-        bottom_right.setRotate(180D);
-        AnchorPane.setRightAnchor(bottom_right, 0D);
-        AnchorPane.setBottomAnchor(bottom_right, 0D);
-        return bottom_right;
-    }
-
-    private void pathLines(Path path) {
-        path.setFill(Color.BLACK);
-        path.setStroke(Color.BLACK);
-        path.setStrokeType(StrokeType.INSIDE);
-        MoveTo moveTo = new MoveTo(100D, -40D);
-        LineTo line1 = new LineTo(120D, -40D);
-        LineTo line2 = new LineTo(120D, -37D);
-        LineTo line3 = new LineTo(103D, -37D);
-        LineTo line4 = new LineTo(103D, -20D);
-        LineTo line5 = new LineTo(100D, -20D);
-        ClosePath closePath = new ClosePath();
-        path.getElements().addAll(moveTo, line1, line2, line3, line4, line5, closePath);
-    }
-
-    private AnchorPane left() {
-        left.setId("left");
-        left.setCursor(Cursor.W_RESIZE);
-        left.setMinWidth(3D);
-        AnchorPane.setTopAnchor(left, 22D);
-        AnchorPane.setLeftAnchor(left, 0D);
-        AnchorPane.setBottomAnchor(left, 22D);
-        bars(left);
-        return left;
-    }
-
-    private AnchorPane right() {
-        right.setId("right");
-        right.setCursor(Cursor.E_RESIZE);
-        right.setMinWidth(3D);
-        AnchorPane.setTopAnchor(right, 22D);
-        AnchorPane.setRightAnchor(right, 0D);
-        AnchorPane.setBottomAnchor(right, 22D);
-        bars(right);
-        return right;
-    }
-
-    private AnchorPane top() {
-        top.setId("top");
-        top.setCursor(Cursor.N_RESIZE);
-        top.setMinHeight(3D);
-        AnchorPane.setTopAnchor(top, 0D);
-        AnchorPane.setRightAnchor(top, 22D);
-        AnchorPane.setLeftAnchor(top, 22D);
-        bars(top);
-        return top;
-    }
-
-    private AnchorPane bottom() {
-        bottom.setId("bottom");
-        bottom.setCursor(Cursor.S_RESIZE);
-        bottom.setMinHeight(3D);
-        AnchorPane.setBottomAnchor(bottom, 0D);
-        AnchorPane.setRightAnchor(bottom, 22D);
-        AnchorPane.setLeftAnchor(bottom, 22D);
-        bars(bottom);
-        return bottom;
-    }
-    
-    private void bars(AnchorPane bar) {
-        bar.setStyle("-fx-background-color : red");
-    }
-    
-    private AnchorPane bar(){
-        bar.getStyleClass().add("gn-bar");
-        bar.setMinHeight(barHeight.get());
-        AnchorPane.setTopAnchor(bar, 0D);
-        AnchorPane.setRightAnchor(bar, 0D);
-        AnchorPane.setLeftAnchor(bar, 0D);
-        return bar;
-    }
-    
-    private HBox barContent() {
-        bar_content.setId("barContent");
-        bar_content.setPrefHeight(barHeight.get());
-        bar_content.setMinHeight(barHeight.get());
-        bar_content.setAlignment(Pos.CENTER);
-        AnchorPane.setTopAnchor(bar_content, 0D);
-        AnchorPane.setRightAnchor(bar_content, 0D);
-        AnchorPane.setLeftAnchor(bar_content, 0D);
-        return bar_content;
     }
 
     private HBox controls(){
@@ -518,10 +707,6 @@ public class GNDecorator {
         controls.setAlignment(Pos.CENTER);
         double prefWidth = buttonWidth.get(), prefHeight = buttonHeight.get();
 
-        btn_minimize.setGraphic(viewMinimize);
-        btn_maximize.setGraphic(viewMaximize);
-        btn_close.setGraphic(viewClose);
-        
         btn_minimize.setMinSize(prefWidth, prefHeight);
         btn_maximize.setMinSize(prefWidth, prefHeight);
         btn_close.setMinSize(prefWidth, prefHeight);
@@ -539,20 +724,15 @@ public class GNDecorator {
         controls.setMinWidth(buttonWidth.get() * controls.getChildren().size());
     }
     
-    private HBox menu(){
-        menu.getStyleClass().add("gn-menu");
-        menu.setMinWidth(barHeight.get());
-        menu.setMinHeight(barHeight.get());
-
+    private Button menu(){
+        btn_ico.getStyleClass().add("gn-menu");
         btn_ico.setStyle("-fx-background-color : transparent;");
 
         icon.setId("icon");
         icon.setContent("M3 13h8V3H3v10zm0 8h8v-6H3v6zm10 0h8V11h-8v10zm0-18v6h8V3h-8z");
         btn_ico.setGraphic(icon);
         icon.setFill(Color.web("#999"));
-        menu.getChildren().add(btn_ico);
-        menu.setAlignment(Pos.CENTER);
-        return menu;
+        return btn_ico;
     }
 
     /**
@@ -563,38 +743,14 @@ public class GNDecorator {
         btn_ico.setGraphic(node);
     }
 
-    private HBox titleContent() {
-        title_content.setId("menu");
-        title_content.getChildren().add(title);
-        title_content.setAlignment(Pos.CENTER_LEFT);
-        title.setAlignment(Pos.CENTER_LEFT);
-        HBox.setHgrow(title_content, Priority.ALWAYS);
-        return title_content;
-    }
-
     /**
      * Centralize title.
-     * center the title using the half-width of the
-     * stage and subtract the width of the right and left controls
+     * center the title on the width of the bar, as far as the icon and the
+     * controls at the sides allow.
      */
     public void centralizeTitle(){
-        Platform.runLater(()->{
-            title_content.setAlignment(Pos.CENTER);
-            title.setAlignment(Pos.CENTER);
-
-
-            double countR = 0;
-
-            for(Node node : controls.getChildren()){
-                if(node instanceof Button){
-                    countR += ((Button) node).getWidth();
-                } else if(node instanceof HBox){
-                    countR += ((HBox) node).getWidth();
-                }
-            }
-
-            title.setTranslateX(countR / 2);
-        });
+        title.setAlignment(Pos.CENTER);
+        body.setCenterTitle(true);
     }
 
     /**
@@ -609,12 +765,8 @@ public class GNDecorator {
      * @deprecated
      */
     public void fullBody(@NamedArg("minHeight") double minHeight){
-        AnchorPane.setTopAnchor(this.areaContent, 0D);
-        this.bar.toFront();
-        top.toFront();
-        top_left.toFront();
-        top_right.toFront();
-        
+        this.body.setContentOverlaid(true);
+
         this.stage.setHeight(minHeight);
         this.stage.setMinHeight(minHeight);
     }
@@ -625,25 +777,11 @@ public class GNDecorator {
      * bar to define the border limits.
      */
     public void fullBody() {
-        AnchorPane.setTopAnchor(areaContent, 0D);
-
-        bar.toFront();
-        top.toFront();
-
-        top_left.toFront();
-        top_right.toFront();
-
-
+        body.setContentOverlaid(true);
     }
 
     public void fullBody(Insets insets) {
-        AnchorPane.setTopAnchor(areaContent, 0D);
-        AnchorPane.setRightAnchor(areaContent, 0D);
-
-        bar.toFront();
-        top.toFront();
-        right.toFront();
-        left.toFront();
+        body.setContentOverlaid(true);
     }
 
     /**
@@ -651,12 +789,8 @@ public class GNDecorator {
      * The bar is set to a minimum size to contain only your children and is position in left.
      */
     public void floatActions(){
-        AnchorPane.setTopAnchor(areaContent, 0D);
-        bar.toFront();
-        bar_content.getChildren().removeAll(title_content, menu);
-        AnchorPane.clearConstraints(bar);
-        AnchorPane.setTopAnchor(bar, 0D);
-        AnchorPane.setRightAnchor(bar, 0D);
+        body.setContentOverlaid(true);
+        body.setFloating(true);
     }
 
     /**
@@ -664,12 +798,8 @@ public class GNDecorator {
      * The bar is set to a minimum size to contain only your children and is position in left.
      */
     public void floatActions(Region bar2){
-        AnchorPane.setTopAnchor(areaContent, 0D);
-//        bar.toFront();
-        bar_content.getChildren().removeAll(title_content, menu);
-        AnchorPane.clearConstraints(bar);
-        AnchorPane.setTopAnchor(bar, 0D);
-        AnchorPane.setRightAnchor(bar, 0D);
+        body.setContentOverlaid(true);
+        body.setFloating(true);
 
         addBarActions(bar2);
     }
@@ -687,11 +817,7 @@ public class GNDecorator {
      * @deprecated
      */
     public void fullBody(@NamedArg("minWidth") double minWidth, @NamedArg("minHeight") double minHeight) {
-        AnchorPane.setTopAnchor(this.areaContent, 0D);
-        this.bar.toFront();
-        top.toFront();
-        top_left.toFront();
-        top_right.toFront();
+        this.body.setContentOverlaid(true);
 
         this.stage.setHeight(minHeight);
         this.stage.setMinHeight(minHeight);
@@ -707,360 +833,127 @@ public class GNDecorator {
         btn_maximize.setOnMouseClicked(event -> maximizeOrRestore());
         btn_minimize.setOnMouseClicked(event -> stage.setIconified(true));
         
-        right.setOnMousePressed(event -> {
-            if (event.isPrimaryButtonDown()) {
-                initX = event.getScreenX();
-                initY = event.getScreenY();
-                event.consume();
-            }
-        });
-
-        right.setOnMouseDragged(event -> {
-            
-            if (!event.isPrimaryButtonDown() || (initX == -1 && initY == -1)) {
-                return;
-            }
-            if (getStage().isFullScreen()) {
-                return;
-            }
-            if (event.isStillSincePress()) {
-                return;
-            }
-
-            newX = event.getScreenX();
-            newY = event.getScreenY();
-            double deltax = newX - initX;
-            double deltay = newY - initY;
+        // the border is not a node, the zones are found from the pointer position.
+        background.addEventFilter(MouseEvent.MOUSE_MOVED, resizeMoved);
+        background.addEventFilter(MouseEvent.MOUSE_PRESSED, resizePressed);
+        background.addEventFilter(MouseEvent.MOUSE_DRAGGED, resizeDragged);
+        background.addEventFilter(MouseEvent.MOUSE_RELEASED, resizeReleased);
 
-            Cursor cursor = right.getCursor();
+        addBarActions(bar);
 
-            if (Cursor.E_RESIZE.equals(cursor)) {
-                setStageWidth(getStage(), getStage().getWidth() + deltax);
-                event.consume();
-            }
-        });
+    }
 
-        left.setOnMousePressed(event -> {
-            if (event.isPrimaryButtonDown()) {
-                initX = event.getScreenX();
-                initY = event.getScreenY();
-                event.consume();
+    public void addBarActions(Region bar){
+        bar.setOnMousePressed(event -> {
+            boundsAnimation.stop();
+            screens.refresh();
+            moving = true;
+            initX = event.getScreenX();
+            initY = event.getScreenY();
+            moveX = stage.getX();
+            moveY = stage.getY();
+            if (isSnapping()) {
+                snapIndex.begin(stage);
             }
         });
 
-        left.setOnMouseDragged(event -> {
-            if (!event.isPrimaryButtonDown() || (initX == -1 && initY == -1)) {
-                return;
-            }
-            if (getStage().isFullScreen()) {
-                return;
-            }
-            if (event.isStillSincePress()) {
-                return;
-            }
-
-            newX = event.getScreenX();
-            newY = event.getScreenY();
-            double deltax = newX - initX;
-            double deltay = newY - initY;
-
-            Cursor cursor = left.getCursor();
-            if (Cursor.W_RESIZE.equals(cursor)) {
-                if (setStageWidth(getStage(), getStage().getWidth() - deltax)) {
-                    getStage().setX(getStage().getX() + deltax);
-                }
-                event.consume();
-            }
-        });
+        mousePressedB = (EventHandler<MouseEvent>) bar.getOnMousePressed();
 
-        top.setOnMousePressed(event -> {
-            if (event.isPrimaryButtonDown()) {
-                initX = event.getScreenX();
-                initY = event.getScreenY();
-                event.consume();
-            }
-        });
+        bar.setOnMouseDragged(e -> {
 
-        top.setOnMouseDragged(event -> {
-            if (!event.isPrimaryButtonDown() || (initX == -1 && initY == -1)) {
+            if (!e.isPrimaryButtonDown() || !moving) {
                 return;
             }
 
-            if (getStage().isFullScreen()) {
-                return;
-            }
-            if (event.isStillSincePress()) {
+            if (e.isStillSincePress()) {
                 return;
             }
 
-            newX = event.getScreenX();
-            newY = event.getScreenY();
-            double deltax = newX - initX;
-            double deltay = newY - initY;
-            Cursor cursor = top.getCursor();
-            if (Cursor.N_RESIZE.equals(cursor)) {
-                if (setStageHeight(getStage(), getStage().getHeight() - deltay)) {
-                    setStageY(getStage(), getStage().getY() + deltay);
-                }
-                event.consume();
-            }
-        });
+            long start = System.nanoTime();
 
-        bottom.setOnMousePressed(event -> {
-            if (event.isPrimaryButtonDown()) {
-                initX = event.getScreenX();
-                initY = event.getScreenY();
-                event.consume();
+            if (savedBounds.isEmpty()) {
+                savedBounds.set(initialBound);
             }
-        });
 
-        bottom.setOnMouseDragged(event -> {
-            if (!event.isPrimaryButtonDown() || (initX == -1 && initY == -1)) {
-                return;
-            }
-            if (getStage().isFullScreen()) {
-                return;
-            }
-            if (event.isStillSincePress()) {
-                return;
-            }
+            WindowState state = windowState.get();
+            if((state == WindowState.MAXIMIZED || state == WindowState.SNAPPED) && isResizable()){
 
-            newX = event.getScreenX();
-            newY = event.getScreenY();
-            double deltax = newX - initX;
-            double deltay = newY - initY;
+                Rectangle2D bounds = screens.getVisualBounds(screens.screenAt(e.getScreenX(), e.getScreenY()));
 
-            Cursor cursor = bottom.getCursor();
-            if (Cursor.S_RESIZE.equals(cursor)) {
-                setStageHeight(getStage(), getStage().getHeight() + deltay);
-                event.consume();
-            }
-        });
+                // a snapped window keeps its bar under the pointer.
+                double y = state == WindowState.SNAPPED ? stage.getY() : bounds.getMinY();
 
-        top_right.setOnMousePressed(event -> {
-            if (event.isPrimaryButtonDown()) {
-                initX = event.getScreenX();
-                initY = event.getScreenY();
-                event.consume();
+                // verifica se a posicao não atinji o limite da borda
+                double x = WindowGeometry.restoreX(e.getScreenX(), savedBounds.getWidth(), bounds.getMinX(), bounds.getMaxX());
 
-            }
-        });
+                setBounds(x, y, savedBounds.getWidth(), savedBounds.getHeight());
 
-        top_right.setOnMouseDragged(event -> {
-            if (!event.isPrimaryButtonDown() || (initX == -1 && initY == -1)) {
-                return;
-            }
+                transition(WindowState.NORMAL);
 
-            if (getStage().isFullScreen()) {
-                return;
+                coalescer.cancel();
+                moveX = stage.getX();
+                moveY = stage.getY();
             }
 
-            if (event.isStillSincePress()) {
-                return;
+            background.setDragging(true);
+            if (!liveMoving.get()) {
+                liveMoving.set(true);
+                settleTimer.hold();
             }
 
-            newX = event.getScreenX();
-            newY = event.getScreenY();
+            double newX = e.getScreenX();
+            double newY = e.getScreenY();
             double deltax = newX - initX;
             double deltay = newY - initY;
+            initX = newX;
+            initY = newY;
+            moveX += deltax;
+            moveY += deltay;
 
-            Cursor cursor = top_right.getCursor();
+            latency.mark(start);
 
-            if (Cursor.NE_RESIZE.equals(cursor)) {
-                if (setStageHeight(getStage(), getStage().getHeight() - deltay)) {
-                    setStageY(getStage(), getStage().getY() + deltay);
-                }
-                setStageWidth(getStage(), getStage().getWidth() + deltax);
-                event.consume();
+            // the pointer position is kept apart from the snapped one, so the window can be pulled away.
+            if (isSnapping() && snapIndex.snap(moveX, moveY, stage.getWidth(), stage.getHeight(), getSnapDistance())) {
+                submitBounds(snapIndex.getX(), snapIndex.getY(), stage.getWidth(), stage.getHeight());
+            } else {
+                submitBounds(moveX, moveY, stage.getWidth(), stage.getHeight());
             }
-        });
+            chrome.setId(btn_maximize, "maximize");
+            chrome.setCursor(bar, Cursor.MOVE);
 
-        top_left.setOnMousePressed(event -> {
-            if (event.isPrimaryButtonDown()) {
-                initX = event.getScreenX();
-                initY = event.getScreenY();
-                event.consume();
+            if (isSnapLayouts()) {
+                previewLayout(e.getScreenX(), e.getScreenY());
             }
         });
 
-        top_left.setOnMouseDragged(event -> {
-            if (!event.isPrimaryButtonDown() || (initX == -1 && initY == -1)) {
-                return;
-            }
-            if (getStage().isFullScreen()) {
-                return;
-            }
-            if (event.isStillSincePress()) {
-                return;
-            }
-
-            newX = event.getScreenX();
-            newY = event.getScreenY();
-            double deltax = newX - initX;
-            double deltay = newY - initY;
-
-            Cursor cursor = top_left.getCursor();
+        mouseDraggedB = (EventHandler<MouseEvent>) bar.getOnMouseDragged();
 
-            if (Cursor.NW_RESIZE.equals(cursor)) {
-                if (setStageWidth(getStage(), getStage().getWidth() - deltax)) {
-                    getStage().setX(getStage().getX() + deltax);
-                }
-                if (setStageHeight(getStage(), getStage().getHeight() - deltay)) {
-                    setStageY(getStage(), getStage().getY() + deltay);
-                }
-                event.consume();
+        bar.setOnMouseReleased(event -> {
+            flushBounds();
+            latency.end();
+            snapIndex.end();
+            if (snapLayout != SnapLayout.NONE) {
+                snapPreview.hide();
+                snap(snapScreen, snapLayout);
+                snapLayout = SnapLayout.NONE;
             }
-        });
-
-        bottom_right.setOnMousePressed(event -> {
-            if (event.isPrimaryButtonDown()) {
-                initX = event.getScreenX();
-                initY = event.getScreenY();
-                event.consume();
+            moving = false;
+            background.setDragging(false);
+            if (liveMoving.get()) {
+                liveMoving.set(false);
+                settleTimer.settle();
             }
+            // null lets the cursor of the resize zone on the root show through the bar.
+            chrome.setCursor(bar, null);
         });
 
-        bottom_right.setOnMouseDragged(event -> {
-            if (!event.isPrimaryButtonDown() || (initX == -1 && initY == -1)) {
-                return;
-            }
-
-            if (getStage().isFullScreen()) {
-                return;
-            }
-            if (event.isStillSincePress()) {
-                return;
-            }
-
-            newX = event.getScreenX();
-            newY = event.getScreenY();
-            double deltax = newX - initX;
-            double deltay = newY - initY;
-
-            Cursor cursor = bottom_right.getCursor();
-
-            if (Cursor.SE_RESIZE.equals(cursor)) {
-                setStageWidth(getStage(), getStage().getWidth() + deltax);
-                setStageHeight(getStage(), getStage().getHeight() + deltay);
-                event.consume();
+        bar.setOnMouseClicked(event -> {
+            if (event.getClickCount() == 2) {
+                maximizeOrRestore();
             }
         });
 
-        bottom_left.setOnMousePressed(event -> {
-            if (event.isPrimaryButtonDown()) {
-                initX = event.getScreenX();
-                initY = event.getScreenY();
-                event.consume();
-            }
-        });
-
-        bottom_left.setOnMouseDragged(event -> {
-            if (!event.isPrimaryButtonDown() || (initX == -1 && initY == -1)) {
-                return;
-            }
-            if (getStage().isFullScreen()) {
-                return;
-            }
-            if (event.isStillSincePress()) {
-                return;
-            }
-
-            newX = event.getScreenX();
-            newY = event.getScreenY();
-            double deltax = newX - initX;
-            double deltay = newY - initY;
-
-            Cursor cursor = bottom_left.getCursor();
-
-            if (Cursor.SW_RESIZE.equals(cursor)) {
-                if (setStageWidth(getStage(), getStage().getWidth() - deltax)) {
-                    getStage().setX(getStage().getX() + deltax);
-                }
-                setStageHeight(getStage(), getStage().getHeight() + deltay);
-                event.consume();
-            }
-        });
-
-
-        addBarActions(bar);
-
-    }
-
-    public void addBarActions(Region bar){
-        bar.setOnMousePressed(event -> {
-            initX = event.getScreenX();
-            initY = event.getScreenY();
-        });
-
-        mousePressedB = (EventHandler<MouseEvent>) bar.getOnMousePressed();
-
-        bar.setOnMouseDragged(e -> {
-
-            if (!e.isPrimaryButtonDown() || initX == -1) {
-                return;
-            }
-
-            if (e.isStillSincePress()) {
-                return;
-            }
-
-
-            if (savedBounds == null) {
-                savedBounds = initialBound;
-            }
-
-            if(isMaximized() && isResizable()){
-
-                stage.setX(e.getScreenX() - savedBounds.getWidth() / 2);
-                stage.setY(0);
-                stage.setWidth(savedBounds.getWidth());
-                stage.setHeight(savedBounds.getHeight());
-
-                // verifica se a posicao não atinji o limite da borda
-                if(stage.getX() < bounds.getMinX()){
-                } else if((stage.getX() + savedBounds.getWidth() )  > bounds.getMaxX()){
-                    stage.setX(bounds.getMaxX() - savedBounds.getWidth());
-                }
-
-                setMaximized(false);
-                btn_maximize.updateState(true);
-
-            }
-
-            viewBorders(true);
-
-            newX = e.getScreenX();
-            newY = e.getScreenY();
-            double deltax = newX - initX;
-            double deltay = newY - initY;
-            initX = newX;
-            initY = newY;
-            stage.setX(stage.getX() + deltax);
-            setStageY(stage, stage.getY() + deltay);
-            if(isResizable()) configCursor(true);
-            else configCursor(false);
-            btn_maximize.setId("maximize");
-            bar.setCursor(Cursor.MOVE);
-        });
-
-        mouseDraggedB = (EventHandler<MouseEvent>) bar.getOnMouseDragged();
-
-        bar.setOnMouseReleased(event -> {
-            if (stage.isResizable()) {
-                initX = -1;
-                initY = -1;
-                bar.setCursor(Cursor.DEFAULT);
-            }
-
-        });
-
-        bar.setOnMouseClicked(event -> {
-            if (event.getClickCount() == 2) {
-                maximizeOrRestore();
-            }
-        });
-
-    }
+    }
 
 
     /**
@@ -1071,37 +964,99 @@ public class GNDecorator {
      * other case The size is restored to before maximizing..
      */
     public void restore() {
-        if (savedBounds == null) {
-            savedBounds = initialBound;
+        // leaves full screen and the task bar first, the listeners go back to the resting state.
+        if (stage.isFullScreen()) {
+            stage.setFullScreen(false);
+        }
+        if (stage.isIconified()) {
+            stage.setIconified(false);
+        }
+        if (windowState.get() == WindowState.NORMAL) {
+            return;
+        }
+        if (savedBounds.isEmpty()) {
+            savedBounds.set(initialBound);
         }
         
         restoreSavedBounds(stage);
-        btn_maximize.updateState(true);
-        viewBorders(true);
-        configCursor(true);
+        transition(WindowState.NORMAL);
     }
 
     /**
      * Maximiza a decoração | Maximize decoration.
      */
     private void maximize() {
-       //set Stage boundaries to visible bounds of the main screen
-       
-       this.savedBounds = new BoundingBox(this.stage.getX(), this.stage.getY(), this.stage.getWidth(), this.stage.getHeight());
-       
-        this.stage.setX(bounds.getMinX());
-        this.stage.setY(bounds.getMinY());
-        this.stage.setWidth(bounds.getWidth());
-        this.stage.setHeight(bounds.getHeight());
+       if (windowState.get() == WindowState.MAXIMIZED) {
+           return;
+       }
+       //set Stage boundaries to visible bounds of the screen that holds the stage
+       Rectangle2D bounds = screenBounds();
+       if (bounds.getWidth() <= 0 || bounds.getHeight() <= 0) {
+           // no screen known, nothing to fill.
+           return;
+       }
+
+       // a snapped window keeps the bounds it had before the snap.
+       if (windowState.get() != WindowState.SNAPPED || savedBounds.isEmpty()) {
+           saveBounds();
+       }
+
+        moveTo(bounds.getMinX(), bounds.getMinY(), bounds.getWidth(), bounds.getHeight());
         this.background.setMinWidth(bounds.getWidth());
         this.background.setMinHeight(bounds.getHeight());
 //
         this.stage.setFullScreen(false); // important
-        btn_fullScreen.updateState(true);
-        btn_maximize.updateState(false);
-        viewBorders(false);
-        stage.centerOnScreen();
-        configCursor(false);
+        if (!boundsAnimation.isActive()) {
+            stage.centerOnScreen();
+        }
+        transition(WindowState.MAXIMIZED);
+    }
+
+    /**
+     * Mostra o layout oferecido sob o ponteiro | Shows the layout offered
+     * under the pointer, the preview moves only when the layout changes.
+     * @param x Pointer x on the screen.
+     * @param y Pointer y on the screen.
+     */
+    private void previewLayout(double x, double y) {
+        int screen = screens.screenAt(x, y);
+        SnapLayout layout = snapZones.layoutAt(screen, x, y);
+        if (layout == snapLayout && screen == snapScreen) {
+            return;
+        }
+        snapLayout = layout;
+        snapScreen = screen;
+        if (layout == SnapLayout.NONE) {
+            snapPreview.hide();
+        } else {
+            Rectangle2D bounds = snapZones.getBounds(screen, layout);
+            snapPreview.show(bounds.getMinX(), bounds.getMinY(), bounds.getWidth(), bounds.getHeight());
+        }
+    }
+
+    /**
+     * Encaixa a decoração em metade ou quarto da tela | Snaps the decoration
+     * to a half or a quarter of the screen that holds it.
+     * The bounds before the snap are restored like after a maximize.
+     * @param layout Layout to apply.
+     */
+    public void snap(SnapLayout layout) {
+        snap(screens.screenFor(stage.getX(), stage.getY(), stage.getWidth(), stage.getHeight()), layout);
+    }
+
+    private void snap(int screen, SnapLayout layout) {
+        if (layout == SnapLayout.NONE || !isResizable()) {
+            return;
+        }
+        Rectangle2D bounds = snapZones.getBounds(screen, layout);
+        if (bounds.getWidth() <= 0 || bounds.getHeight() <= 0) {
+            return;
+        }
+        if (windowState.get() == WindowState.NORMAL || savedBounds.isEmpty()) {
+            saveBounds();
+        }
+        moveTo(bounds.getMinX(), bounds.getMinY(), bounds.getWidth(), bounds.getHeight());
+        transition(WindowState.SNAPPED);
     }
 
     /**
@@ -1110,12 +1065,10 @@ public class GNDecorator {
      */
     private void maximizeOrRestore() {
         if (isResizable()) {
-            if (isMaximized()) {
+            if (windowState.get() == WindowState.MAXIMIZED) {
                 restore();
-                maximizedProperty.set(false);
             } else {
                 maximize();
-                maximizedProperty.set(true);
             }
         }
     }
@@ -1125,11 +1078,37 @@ public class GNDecorator {
      * @param stage Stage for restore.
      */
     private void restoreSavedBounds(Stage stage) {
-        stage.setX(savedBounds.getMinX());
-        stage.setY(savedBounds.getMinY());
-        stage.setWidth(savedBounds.getWidth());
-        stage.setHeight(savedBounds.getHeight());
-        savedBounds = null;
+        if (savedBounds.isEmpty()) {
+            return;
+        }
+        moveTo(savedBounds.getX(), savedBounds.getY(), savedBounds.getWidth(), savedBounds.getHeight());
+        savedBounds.clear();
+    }
+
+    /**
+     * Guarda os bounds para restaurar depois | Saves the bounds to restore
+     * later, the end of the animation running when there is one.
+     */
+    private void saveBounds() {
+        if (boundsAnimation.isActive()) {
+            savedBounds.set(boundsAnimation.getTarget());
+        } else {
+            savedBounds.set(stage.getX(), stage.getY(), stage.getWidth(), stage.getHeight());
+        }
+    }
+
+    /**
+     * Move a decoração para os bounds | Moves the decoration to the bounds,
+     * eased when animated, at once otherwise.
+     */
+    private void moveTo(double x, double y, double width, double height) {
+        if (isAnimated() && stage.isShowing()) {
+            boundsAnimation.animate(stage.getX(), stage.getY(), stage.getWidth(), stage.getHeight(),
+                    x, y, width, height, getAnimationDuration());
+        } else {
+            boundsAnimation.stop();
+            setBounds(x, y, width, height);
+        }
     }
 
     /**
@@ -1140,117 +1119,387 @@ public class GNDecorator {
      * @param y Axis y of stage.
      */
     private void setStageY(Stage stage, double y) {
-        try {
-            ObservableList<Screen> screensForRectangle = Screen.getScreensForRectangle(stage.getX(), stage.getY(), stage.getWidth(), stage.getHeight());
-            if (screensForRectangle.size() > 0) {
-                Screen screen = screensForRectangle.get(0);
-                Rectangle2D visualBounds = screen.getVisualBounds();
-                if (y < visualBounds.getHeight()) {
-                    stage.setY(y);
-                }
-            }
-        } catch (Exception e) {
-            System.err.println(e);
+        Rectangle2D visualBounds = screens.getVisualBounds(screens.screenFor(stage.getX(), stage.getY(), stage.getWidth(), stage.getHeight()));
+        if (WindowGeometry.isAbove(y, visualBounds.getMaxY())) {
+            stage.setY(y);
         }
     }
 
     /**
-     * Redimensiona a largura do palco retornando verdadeiro se a ação for
-     * efetivada e falso se não for | Resize the Stage Width by Returning to an
-     * Action made and false if it is not..
-     *
-     * @param stage Stage to change the width.
-     * @param width New width.
-     * @return Verdadeiro se a largura for maior ou igual a largura minima |
-     * True if the width is greater than or equal to the minimum width.
-     * permitida.
+     * Verifica se as bordas podem redimensionar a decoração | Checks if the
+     * borders can resize the decoration.
+     * @return true if it can, if not false.
+     */
+    private boolean canResize() {
+        WindowState state = windowState.get();
+        return isResizable() && resizes(state);
+    }
+
+    /**
+     * Envia os novos bounds da decoração | Sends the new bounds of the
+     * decoration, committed now or in the next pulse when coalescing, held
+     * while the rate or the frame budget is exceeded.
      */
-    private boolean setStageWidth(Stage stage, double width) {
-        if (width >= stage.getMinWidth()) { // se a largura for maior ou igual a largura minima permitida.
-            stage.setWidth(width); // altera a largura do stage.
-            initX = newX; // o valor inicial do eixo x agora é o valor do novo eixo x gerado no evento.
-            return true;
+    private void submitBounds(double x, double y, double width, double height) {
+        if (isCoalescing()) {
+            coalescer.submit(x, y, width, height);
+        } else {
+            coalescer.apply(x, y, width, height);
         }
-        return false;
     }
 
     /**
-     * Redimensiona o comprimento do palco retornando verdadeiro se a ação for
-     * efetivada e falso se não for | Resizes the stage length by returning true
-     * if the action is   made and false if it is not..
-     *
-     * @param stage Stage to change length.
+     * Aplica os bounds pendentes ao soltar o mouse | Applies the pending
+     * bounds when the gesture ends.
+     */
+    private void flushBounds() {
+        coalescer.flush();
+        coalescer.stop();
+    }
+
+    /**
+     * Sets position and size of the window in one step.
+     * The size is checked against the minimum and maximum size of the stage
+     * once and only the values that changed are written, in a single block,
+     * so a corner drag or a maximize is one update of the window.
+     * @param x      New x.
+     * @param y      New y, kept when it would leave the window under the screen.
+     * @param width  New width.
      * @param height New height.
-     * @return verdadeiro se o comprimento for maior ou igual o comprimento
-     * minimo permitido | true if the length is greater than or equal to the
-     * length   minimum allowed..
      */
-    private boolean setStageHeight(Stage stage, double height) {
-        if (height >= stage.getMinHeight()) { // se o comprimento for maior ou igual o comprimento minimo permitido.
-            stage.setHeight(height); // altera o comprimento do stage.
-            initY = newY; // o valor inicial do eixo y agora é o valor do novo eixo y gerado no evento.
-            return true;
+    public void setBounds(double x, double y, double width, double height) {
+        width = WindowGeometry.clamp(width, stage.getMinWidth(), stage.getMaxWidth());
+        height = WindowGeometry.clamp(height, stage.getMinHeight(), stage.getMaxHeight());
+
+        if (width != stage.getWidth()) {
+            stage.setWidth(width);
+        }
+        if (height != stage.getHeight()) {
+            stage.setHeight(height);
+        }
+        if (x != stage.getX()) {
+            stage.setX(x);
         }
-        return false;
+        if (y != stage.getY()) {
+            setStageY(stage, y);
+        }
+        latency.commit();
     }
 
-    private void configCursor(boolean resizable) {
-        if (!resizable) {
-            top.cursorProperty().set(Cursor.DEFAULT);
-            right.cursorProperty().set(Cursor.DEFAULT);
-            left.cursorProperty().set(Cursor.DEFAULT);
-            bottom.cursorProperty().set(Cursor.DEFAULT);
+    /**
+     * @return The engine that resizes this decoration, with its statistics.
+     */
+    public ResizeEngine getResizeEngine() {
+        return resizeEngine;
+    }
 
-            top_right.cursorProperty().set(Cursor.DEFAULT);
-            top_left.cursorProperty().set(Cursor.DEFAULT);
-            bottom_right.cursorProperty().set(Cursor.DEFAULT);
-            bottom_left.cursorProperty().set(Cursor.DEFAULT);
+    /**
+     * Eases maximize, restore and snap instead of jumping to the new bounds.
+     * @param animated true to animate.
+     */
+    public void setAnimated(boolean animated) {
+        this.animatedProperty.set(animated);
+    }
 
-        } else {
-            top.cursorProperty().set(Cursor.N_RESIZE);
-            left.cursorProperty().set(Cursor.W_RESIZE);
-            right.cursorProperty().set(Cursor.E_RESIZE);
-            bottom.cursorProperty().set(Cursor.S_RESIZE);
-
-            top_right.cursorProperty().set(Cursor.NE_RESIZE);
-            top_left.cursorProperty().set(Cursor.NW_RESIZE);
-            bottom_right.cursorProperty().set(Cursor.SE_RESIZE);
-            bottom_left.cursorProperty().set(Cursor.SW_RESIZE);
+    public boolean isAnimated() {
+        return this.animatedProperty.get();
+    }
+
+    public BooleanProperty animatedProperty() {
+        return this.animatedProperty;
+    }
+
+    /**
+     * @param millis Duration of the maximize, restore and snap animations in milliseconds.
+     */
+    public void setAnimationDuration(double millis) {
+        this.animationDuration.set(millis);
+    }
+
+    public double getAnimationDuration() {
+        return this.animationDuration.get();
+    }
+
+    public DoubleProperty animationDurationProperty() {
+        return this.animationDuration;
+    }
+
+    /**
+     * @return The size limits of the resize, aspect ratio, steps, minimum
+     * and maximum, applied from the next gesture on. The bar and the borders
+     * are added to the base on each press, the ratio and the steps apply to
+     * the content.
+     */
+    public SizeConstraints getSizeConstraints() {
+        return resizeEngine.getConstraints();
+    }
+
+    /**
+     * Keeps the window at least as large as the minimum size of the content.
+     * The minimum is computed on the first resize and kept until the content
+     * changes or {@link #invalidateContentMinimum()} is called. A pane set
+     * as content keeps its own minimum while this is on, otherwise it is
+     * forced to zero so the window can shrink below it.
+     * @param contentMinimum true to follow the content minimum.
+     */
+    public void setContentMinimum(boolean contentMinimum) {
+        this.contentMinimumProperty.set(contentMinimum);
+    }
+
+    public boolean isContentMinimum() {
+        return this.contentMinimumProperty.get();
+    }
+
+    public BooleanProperty contentMinimumProperty() {
+        return this.contentMinimumProperty;
+    }
+
+    /**
+     * Computes the minimum of the content again on the next resize.
+     */
+    public void invalidateContentMinimum() {
+        this.contentMinimumValid = false;
+    }
+
+    /**
+     * Calcula o minimo do conteudo | Computes the minimum size of the
+     * content, with the bar and the insets of the decoration.
+     */
+    private void updateContentMinimum() {
+        if (contentMinimumValid) {
+            return;
         }
+        double width = 0;
+        double height = 0;
+        if (!content.getChildren().isEmpty()) {
+            Node node = content.getChildren().get(0);
+            width = node.minWidth(-1);
+            height = node.minHeight(-1);
+        }
+        Insets insets = content.getInsets();
+        contentMinWidth = width + insets.getLeft() + insets.getRight() + chromeWidth();
+        contentMinHeight = height + insets.getTop() + insets.getBottom() + chromeHeight();
+        contentMinimumValid = true;
     }
 
     /**
-     * Visualizar as barras de redimensionamento | View the resize bars
-     * @param view The bars of decor.
+     * Minimo do painel de conteudo | Gives the pane set as content its own
+     * minimum while the window follows it, zero otherwise.
      */
-    private void viewBars(boolean view){
-        if(view){
-            top_left.setOpacity(1);
-            top_right.setOpacity(1);
-            bottom_left.setOpacity(1);
-            bottom_right.setOpacity(1);
-            
-            left.setOpacity(1);
-            right.setOpacity(1);
-            top.setOpacity(1);
-            bottom.setOpacity(1);
-            
-        } else {
-            top_left.setOpacity(0);
-            top_right.setOpacity(0);
-            bottom_left.setOpacity(0);
-            bottom_right.setOpacity(0);
-
-            left.setOpacity(0);
-            right.setOpacity(0);
-            top.setOpacity(0);
-            bottom.setOpacity(0);
+    private void updateBodyMinimum() {
+        if (!content.getChildren().isEmpty() && content.getChildren().get(0) instanceof Pane) {
+            Pane pane = (Pane) content.getChildren().get(0);
+            if (isContentMinimum()) {
+                pane.setMinSize(bodyMinWidth, bodyMinHeight);
+            } else {
+                pane.setMinSize(0, 0);
+            }
         }
     }
-    
-    private void viewBorders(boolean view){
-        if(view && !isMaximized() && !stage.isFullScreen()) this.background.setStyle("-fx-border-width : 1");
-        else this.background.setStyle("-fx-border-width : 0");
+
+    /**
+     * Largura das bordas | Width of the borders around the content.
+     */
+    private double chromeWidth() {
+        Insets insets = background.getInsets();
+        return insets.getLeft() + insets.getRight();
+    }
+
+    /**
+     * Altura da barra e das bordas | Height of the bar and the borders around the content.
+     */
+    private double chromeHeight() {
+        Insets insets = background.getInsets();
+        return insets.getTop() + insets.getBottom() + (bar.isVisible() ? barHeight.get() : 0);
+    }
+
+    /**
+     * @return Latency from the drag events to the start of the pulse that
+     * renders the new bounds, with p50, p99 and max as properties.
+     */
+    public DragLatency getDragLatency() {
+        return latency;
+    }
+
+    /**
+     * @return The body of the decoration, with the number and the time of its layout passes.
+     */
+    public DecoratorPane getDecoratorPane() {
+        return body;
+    }
+
+    /**
+     * @return The state of cursors and ids, with the number of redundant updates suppressed.
+     */
+    public ChromeState getChromeState() {
+        return chrome;
+    }
+
+    /**
+     * @return The coalescer of drag events, with the number of merged events.
+     */
+    public BoundsCoalescer getBoundsCoalescer() {
+        return coalescer;
+    }
+
+    /**
+     * Commits at most one bounds update per pulse while moving or resizing.
+     * @param coalescing true to coalesce the drag events.
+     */
+    public void setCoalescing(boolean coalescing) {
+        this.coalescingProperty.set(coalescing);
+    }
+
+    public boolean isCoalescing() {
+        return this.coalescingProperty.get();
+    }
+
+    public BooleanProperty coalescingProperty() {
+        return this.coalescingProperty;
+    }
+
+    /**
+     * Maximum number of bounds updates per second while moving or resizing,
+     * the updates in between are dropped and only the latest is applied.
+     * @param rate Updates per second, 0 for no limit.
+     */
+    public void setMaxUpdateRate(double rate) {
+        this.maxUpdateRate.set(rate);
+    }
+
+    public double getMaxUpdateRate() {
+        return this.maxUpdateRate.get();
+    }
+
+    public DoubleProperty maxUpdateRateProperty() {
+        return this.maxUpdateRate;
+    }
+
+    /**
+     * Time a frame may take, counted from the start of the last pulse with
+     * its css, layout and render, the updates beyond it wait for the next pulse.
+     * @param millis Budget in milliseconds, 0 for no limit.
+     */
+    public void setFrameBudget(double millis) {
+        this.frameBudget.set(millis);
+    }
+
+    public double getFrameBudget() {
+        return this.frameBudget.get();
+    }
+
+    public DoubleProperty frameBudgetProperty() {
+        return this.frameBudget;
+    }
+
+    /**
+     * @return true while the window is resized by the mouse.
+     */
+    public boolean isLiveResizing() {
+        return this.liveResizing.get();
+    }
+
+    public ReadOnlyBooleanProperty liveResizingProperty() {
+        return this.liveResizing.getReadOnlyProperty();
+    }
+
+    /**
+     * @return true while the window is dragged by the bar.
+     */
+    public boolean isLiveMoving() {
+        return this.liveMoving.get();
+    }
+
+    public ReadOnlyBooleanProperty liveMovingProperty() {
+        return this.liveMoving.getReadOnlyProperty();
+    }
+
+    /**
+     * Time without changes in the bounds before a {@link GeometryEvent} is
+     * fired, the event is fired at once when the mouse is released.
+     * @param millis Quiet period in milliseconds.
+     */
+    public void setQuietPeriod(double millis) {
+        this.quietPeriod.set(millis);
+    }
+
+    public double getQuietPeriod() {
+        return this.quietPeriod.get();
+    }
+
+    public DoubleProperty quietPeriodProperty() {
+        return this.quietPeriod;
+    }
+
+    /**
+     * Avisa o conteudo que a geometria parou de mudar | Tells the content
+     * that the geometry stopped changing, handlers can be added in the
+     * content, the scene or the stage.
+     */
+    private void fireSettled() {
+        EventType<GeometryEvent> type = sizeChanged ? GeometryEvent.RESIZE_FINISHED : GeometryEvent.MOVE_FINISHED;
+        sizeChanged = false;
+        Event.fireEvent(content, new GeometryEvent(this, content, type,
+                stage.getX(), stage.getY(), stage.getWidth(), stage.getHeight()));
+    }
+
+    /**
+     * Snaps the window to the edges of the other decorations and of the
+     * screens while it is dragged by the bar.
+     * @param snapping true to snap.
+     */
+    public void setSnapping(boolean snapping) {
+        this.snappingProperty.set(snapping);
+    }
+
+    public boolean isSnapping() {
+        return this.snappingProperty.get();
+    }
+
+    public BooleanProperty snappingProperty() {
+        return this.snappingProperty;
+    }
+
+    /**
+     * Reach of the snap, in pixels.
+     * @param distance Distance from an edge that pulls the window.
+     */
+    public void setSnapDistance(double distance) {
+        this.snapDistance.set(distance);
+    }
+
+    public double getSnapDistance() {
+        return this.snapDistance.get();
+    }
+
+    public DoubleProperty snapDistanceProperty() {
+        return this.snapDistance;
+    }
+
+    /**
+     * Offers the half and quarter layouts of the screen when the window is
+     * dragged by the bar to an edge or a corner.
+     * @param snapLayouts true to offer the layouts.
+     */
+    public void setSnapLayouts(boolean snapLayouts) {
+        this.snapLayoutsProperty.set(snapLayouts);
+    }
+
+    public boolean isSnapLayouts() {
+        return this.snapLayoutsProperty.get();
+    }
+
+    public BooleanProperty snapLayoutsProperty() {
+        return this.snapLayoutsProperty;
+    }
+
+    /**
+     * Ativa os cursores de redimensionamento nas bordas | Enables the resize
+     * cursors on the borders.
+     * @param resizable true if the borders show the resize cursors.
+     */
+    private void configCursor(boolean resizable) {
+        chrome.setResizeCursor(resizable);
     }
     
     public void addButton(ButtonType button){
@@ -1295,35 +1544,22 @@ public class GNDecorator {
         btn_fullScreen.setOnMouseClicked(e -> {
             if (!stage.isFullScreen()) {
                 stage.setFullScreen(true);
-                configCursor(false);
                 viewBar(true);
-                viewBorders(false);
-                btn_fullScreen.updateState(false);
                 this.controls.getChildren().removeAll(btn_maximize, btn_minimize);
                 atualizeMinWidth();
             } else {
-                this.controls.getChildren().addAll(btn_minimize, btn_maximize);
-                btn_maximize.toFront();
-                btn_close.toFront();
                 stage.setFullScreen(false);
-                configCursor(true);
-                viewBorders(true);
-                btn_fullScreen.updateState(true);
             }
         });
 
         stage.fullScreenProperty().addListener((ObservableValue<? extends Object> observable, Object oldValue, Object newValue) -> {
-            if (newValue != null) {
-                configCursor(true);
+            if (!stage.isFullScreen()) {
                 viewBar(true);
-                if(GNDecorator.this.controls.getChildren().size() < 4){
+                if(!GNDecorator.this.controls.getChildren().contains(btn_maximize)){
                     GNDecorator.this.controls.getChildren().addAll(btn_minimize, btn_maximize);
                     btn_maximize.toFront();
                     btn_close.toFront();
-                    
                 }
-                btn_fullScreen.updateState(true);
-                
             }
         });
 
@@ -1362,16 +1598,14 @@ public class GNDecorator {
         btn_fullScreen.setOnMouseClicked(e -> {
             if (!stage.isFullScreen()) {
                 stage.setFullScreen(true);
-                viewBorders(false);
                 this.bar.setVisible(false);
-                configCursor(false);
-                AnchorPane.setTopAnchor(this.areaContent, 0D);
+                this.body.setContentOverlaid(true);
             } 
             // provavelmente nunca chamado
             else {
                 stage.setFullScreen(false);
                 this.bar.setVisible(true);
-                AnchorPane.setTopAnchor(this.areaContent, bar.getHeight());
+                this.body.setContentOverlaid(false);
             }
         });
 
@@ -1379,21 +1613,14 @@ public class GNDecorator {
     }
     
     private void viewBar(boolean view){
-        
-        open.setFromY(-(barHeight.get()));
-        open.setByY(bar.getMinHeight());
-        
-        close.setFromY(barHeight.get() * -1);
-        close.setByY( - (barHeight.get() ));
-        
+        // parte de onde a barra está | starts from where the bar is, a reveal can be turned back mid-flight.
         if(view) {
-            open.play();
-            AnchorPane.setTopAnchor(this.areaContent, barHeight.get());
+            barAnimation.animate(0D, 100D);
+            body.setContentOverlaid(false);
         } else {
-            AnchorPane.setTopAnchor(this.areaContent, 0D);
-            close.play();
+            body.setContentOverlaid(true);
+            barAnimation.animate(-barHeight.get(), 100D);
         }
-        
     }
     
     public void initTheme(Theme theme){
@@ -1444,16 +1671,57 @@ public class GNDecorator {
         }
     }
 
+    /**
+     * Termina os gestos sem soltar | Ends the move and the resize whose
+     * release never reached the decoration, the live state is cleared.
+     */
+    private void endGestures() {
+        if (resizeEngine.isActive()) {
+            flushBounds();
+            latency.end();
+            outline.hide();
+            snapshot.thaw();
+            resizeEngine.end();
+            background.setResizing(false);
+        }
+        if (moving) {
+            flushBounds();
+            latency.end();
+            snapIndex.end();
+            snapPreview.hide();
+            snapLayout = SnapLayout.NONE;
+            moving = false;
+            background.setDragging(false);
+            chrome.setCursor(bar, null);
+        }
+        if (liveResizing.get() || liveMoving.get()) {
+            liveResizing.set(false);
+            liveMoving.set(false);
+            settleTimer.settle();
+        }
+    }
+
+    /**
+     * Libera os recursos compartilhados | Releases the resources shared with
+     * the other windows, the decoration is not used after it.
+     */
+    public void dispose() {
+        if (disposed) {
+            return;
+        }
+        disposed = true;
+        endGestures();
+        stage.hide();
+        snapIndex.remove(stage);
+        boundsAnimation.stop();
+        barAnimation.stop();
+    }
+
     public void show() {
         stage.show();
-        stage.widthProperty().addListener(new ChangeListener<Number>() {
-            @Override
-            public void changed(ObservableValue<? extends Number> observable, Number oldValue, Number newValue) {
-                background.setPrefWidth(newValue.doubleValue());
-                body.setPrefWidth(newValue.doubleValue());
-                AnchorPane.setRightAnchor(content, newValue.doubleValue());
-            }
-        });
+        // added once, a show after a hide would stack another listener.
+        stage.widthProperty().removeListener(followWidth);
+        stage.widthProperty().addListener(followWidth);
         initRestaure();
     }
     
@@ -1466,17 +1734,18 @@ public class GNDecorator {
     };
 
     
-    private BoundingBox initRestaure(){
+    private Box initRestaure(){
         double x = stage.getX();
         double y = stage.getY();
         double width = stage.getWidth();
         double height = stage.getHeight();
         
         if(stage.isFullScreen()){
-            width = Screen.getPrimary().getVisualBounds().getWidth() - 5;
-            height = Screen.getPrimary().getVisualBounds().getHeight() - 5;
+            Rectangle2D bounds = screenBounds();
+            width = bounds.getWidth() - 5;
+            height = bounds.getHeight() - 5;
         }
-        this.initialBound = new BoundingBox(x, y, width, height);
+        this.initialBound.set(x, y, width, height);
         return this.initialBound;
     }
 }
@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) Gleidson Neves da Silveira
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.gn.decorator;
+
+import javafx.event.Event;
+import javafx.event.EventTarget;
+import javafx.event.EventType;
+
+/**
+ * Fired on the content of the decoration when the window stops changing,
+ * after the mouse is released or after a quiet period.
+ * Content that is expensive to lay out can wait for it instead of following
+ * every width and height change of a live resize.
+ * Create on  17/10/2026
+ * Version 1.0
+ */
+public class GeometryEvent extends Event {
+
+    public static final EventType<GeometryEvent> ANY = new EventType<>(Event.ANY, "GEOMETRY");
+
+    /**
+     * The size changed, the position may have changed too.
+     */
+    public static final EventType<GeometryEvent> RESIZE_FINISHED = new EventType<>(ANY, "RESIZE_FINISHED");
+
+    /**
+     * Only the position changed.
+     */
+    public static final EventType<GeometryEvent> MOVE_FINISHED = new EventType<>(ANY, "MOVE_FINISHED");
+
+    private final double x;
+    private final double y;
+    private final double width;
+    private final double height;
+
+    public GeometryEvent(Object source, EventTarget target, EventType<GeometryEvent> eventType,
+                         double x, double y, double width, double height) {
+        super(source, target, eventType);
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+    }
+
+    public double getX() {
+        return x;
+    }
+
+    public double getY() {
+        return y;
+    }
+
+    public double getWidth() {
+        return width;
+    }
+
+    public double getHeight() {
+        return height;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public EventType<GeometryEvent> getEventType() {
+        return (EventType<GeometryEvent>) super.getEventType();
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) Gleidson Neves da Silveira
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.gn.decorator.animation;
+
+import com.gn.decorator.geometry.Box;
+import com.gn.decorator.geometry.WindowGeometry;
+import com.gn.decorator.resize.BoundsCoalescer;
+import javafx.animation.Interpolator;
+
+/**
+ * Eased move of a window between two bounds, stepped by the {@link Pulse}.
+ * The same instance is started again for each maximize, restore or snap, an
+ * animation interrupted mid-flight starts from where the window is.
+ * Create on  17/10/2026
+ * Version 1.0
+ */
+public class BoundsAnimation implements Pulse.Animated {
+
+    private final BoundsCoalescer.Commit commit;
+
+    private final Box from = new Box();
+    private final Box to = new Box();
+    private final Box current = new Box();
+
+    private Interpolator interpolator = Interpolator.EASE_BOTH;
+
+    private long duration = 0;
+    private long start = -1;
+    private boolean active = false;
+
+    public BoundsAnimation(BoundsCoalescer.Commit commit) {
+        this.commit = commit;
+    }
+
+    /**
+     * Starts moving from the first bounds to the second, replacing the
+     * animation running.
+     * @param millis Duration in milliseconds.
+     */
+    public void animate(double fromX, double fromY, double fromWidth, double fromHeight,
+                        double toX, double toY, double toWidth, double toHeight, double millis) {
+        from.set(fromX, fromY, fromWidth, fromHeight);
+        to.set(toX, toY, toWidth, toHeight);
+        duration = (long) (millis * 1_000_000D);
+        start = -1;
+        active = true;
+        Pulse.getInstance().add(this);
+    }
+
+    /**
+     * Stops where the window is.
+     */
+    public void stop() {
+        if (active) {
+            active = false;
+            Pulse.getInstance().remove(this);
+        }
+    }
+
+    /**
+     * Stops and moves the window to the end bounds.
+     */
+    public void finish() {
+        if (active) {
+            stop();
+            commit.commit(to.getX(), to.getY(), to.getWidth(), to.getHeight());
+        }
+    }
+
+    @Override
+    public boolean step(long now) {
+        if (!active) {
+            return false;
+        }
+        if (start < 0) {
+            start = now;
+        }
+        double fraction = duration <= 0 ? 1D : Math.min(1D, (now - start) / (double) duration);
+        WindowGeometry.interpolate(from, to, interpolator.interpolate(0D, 1D, fraction), current);
+        commit.commit(current.getX(), current.getY(), current.getWidth(), current.getHeight());
+
+        if (fraction >= 1D) {
+            active = false;
+        }
+        return active;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    /**
+     * @return Bounds at the end of the animation.
+     */
+    public Box getTarget() {
+        return to;
+    }
+
+    public void setInterpolator(Interpolator interpolator) {
+        this.interpolator = interpolator;
+    }
+
+    public Interpolator getInterpolator() {
+        return interpolator;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) Gleidson Neves da Silveira
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.gn.decorator.animation;
+
+import javafx.animation.Interpolator;
+import javafx.beans.value.WritableDoubleValue;
+
+/**
+ * Eased change of a double value, stepped by the {@link Pulse}.
+ * Each call starts from the current value, so a reveal interrupted by a hide
+ * turns back from where it is.
+ * Create on  17/10/2026
+ * Version 1.0
+ */
+public class DoubleAnimation implements Pulse.Animated {
+
+    private final WritableDoubleValue value;
+
+    private Interpolator interpolator = Interpolator.EASE_BOTH;
+
+    private double from;
+    private double to;
+
+    private long duration = 0;
+    private long start = -1;
+    private boolean active = false;
+
+    public DoubleAnimation(WritableDoubleValue value) {
+        this.value = value;
+    }
+
+    /**
+     * Moves the value to the end value, replacing the animation running.
+     * @param to     End value.
+     * @param millis Duration in milliseconds.
+     */
+    public void animate(double to, double millis) {
+        this.from = value.get();
+        this.to = to;
+        this.duration = (long) (millis * 1_000_000D);
+        this.start = -1;
+        this.active = true;
+        Pulse.getInstance().add(this);
+    }
+
+    public void stop() {
+        if (active) {
+            active = false;
+            Pulse.getInstance().remove(this);
+        }
+    }
+
+    @Override
+    public boolean step(long now) {
+        if (!active) {
+            return false;
+        }
+        if (start < 0) {
+            start = now;
+        }
+        double fraction = duration <= 0 ? 1D : Math.min(1D, (now - start) / (double) duration);
+        value.set(interpolator.interpolate(from, to, fraction));
+
+        if (fraction >= 1D) {
+            active = false;
+        }
+        return active;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public void setInterpolator(Interpolator interpolator) {
+        this.interpolator = interpolator;
+    }
+
+    public Interpolator getInterpolator() {
+        return interpolator;
+    }
+}
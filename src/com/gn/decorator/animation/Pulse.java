@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) Gleidson Neves da Silveira
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.gn.decorator.animation;
+
+import javafx.animation.AnimationTimer;
+
+/**
+ * One timer for the animations of all decorations.
+ * The animations are kept while they run and asked to step on each pulse,
+ * the timer stops when the last one finishes.
+ * Create on  17/10/2026
+ * Version 1.0
+ */
+public final class Pulse extends AnimationTimer {
+
+    /**
+     * Animation driven by the pulse.
+     */
+    public interface Animated {
+
+        /**
+         * @param now Time of the pulse, in nanoseconds.
+         * @return true while the animation still runs.
+         */
+        boolean step(long now);
+    }
+
+    private static Pulse instance;
+
+    private Animated[] animations = new Animated[8];
+    private Animated[] stepping = new Animated[8];
+    private int count = 0;
+
+    private boolean running = false;
+
+    private Pulse() {
+    }
+
+    /**
+     * @return The pulse shared by all decorations, must be called on the JavaFX application thread.
+     */
+    public static Pulse getInstance() {
+        if (instance == null) {
+            instance = new Pulse();
+        }
+        return instance;
+    }
+
+    /**
+     * Adds the animation if it is not running yet.
+     */
+    public void add(Animated animation) {
+        if (indexOf(animation) >= 0) {
+            return;
+        }
+        if (count == animations.length) {
+            Animated[] grown = new Animated[count * 2];
+            System.arraycopy(animations, 0, grown, 0, count);
+            animations = grown;
+        }
+        animations[count++] = animation;
+        if (!running) {
+            start();
+        }
+    }
+
+    public void remove(Animated animation) {
+        int index = indexOf(animation);
+        if (index >= 0) {
+            removeAt(index);
+        }
+    }
+
+    public boolean contains(Animated animation) {
+        return indexOf(animation) >= 0;
+    }
+
+    @Override
+    public void handle(long now) {
+        // a step can add or remove animations, the pulse steps the ones running when it started.
+        int size = count;
+        if (stepping.length < size) {
+            stepping = new Animated[animations.length];
+        }
+        System.arraycopy(animations, 0, stepping, 0, size);
+        for (int i = 0; i < size; i++) {
+            Animated animation = stepping[i];
+            stepping[i] = null;
+            if (indexOf(animation) >= 0 && !animation.step(now)) {
+                remove(animation);
+            }
+        }
+        if (count == 0) {
+            stop();
+        }
+    }
+
+    private int indexOf(Animated animation) {
+        for (int i = 0; i < count; i++) {
+            if (animations[i] == animation) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void removeAt(int index) {
+        System.arraycopy(animations, index + 1, animations, index, count - index - 1);
+        animations[--count] = null;
+    }
+
+    @Override
+    public void start() {
+        super.start();
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        super.stop();
+        running = false;
+    }
+}
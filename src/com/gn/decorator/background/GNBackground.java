@@ -18,6 +18,9 @@
 package com.gn.decorator.background;
 
 import com.gn.decorator.GNDecorator;
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.BooleanPropertyBase;
+import javafx.css.PseudoClass;
 import javafx.geometry.NodeOrientation;
 import javafx.geometry.Pos;
 import javafx.scene.CacheHint;
@@ -31,13 +34,115 @@ import javafx.scene.layout.StackPane;
 public class GNBackground extends StackPane {
 
     private static final String USER_AGENT_STYLESHEET = GNBackground.class.getResource("/com/gn/resources/css/decorator/decorator.css").toExternalForm();
-    
+
+    private static final PseudoClass MAXIMIZED      = PseudoClass.getPseudoClass("maximized");
+    private static final PseudoClass FULLSCREEN     = PseudoClass.getPseudoClass("fullscreen");
+    private static final PseudoClass DRAGGING       = PseudoClass.getPseudoClass("dragging");
+    private static final PseudoClass RESIZING       = PseudoClass.getPseudoClass("resizing");
+    private static final PseudoClass FOCUSED_WINDOW = PseudoClass.getPseudoClass("focused-window");
+
+    private final BooleanProperty maximized     = new StateProperty(MAXIMIZED, "maximized");
+    private final BooleanProperty fullScreen    = new StateProperty(FULLSCREEN, "fullScreen");
+    private final BooleanProperty dragging      = new StateProperty(DRAGGING, "dragging");
+    private final BooleanProperty resizing      = new StateProperty(RESIZING, "resizing");
+    private final BooleanProperty focusedWindow = new StateProperty(FOCUSED_WINDOW, "focusedWindow");
+
     public GNBackground() {
         super();
         getStyleClass().add("gn-decorator");
         setAlignment(Pos.CENTER);
     }
 
+    public BooleanProperty maximizedProperty() {
+        return maximized;
+    }
+
+    public boolean isMaximized() {
+        return maximized.get();
+    }
+
+    public void setMaximized(boolean maximized) {
+        this.maximized.set(maximized);
+    }
+
+    public BooleanProperty fullScreenProperty() {
+        return fullScreen;
+    }
+
+    public boolean isFullScreen() {
+        return fullScreen.get();
+    }
+
+    public void setFullScreen(boolean fullScreen) {
+        this.fullScreen.set(fullScreen);
+    }
+
+    public BooleanProperty draggingProperty() {
+        return dragging;
+    }
+
+    public boolean isDragging() {
+        return dragging.get();
+    }
+
+    public void setDragging(boolean dragging) {
+        this.dragging.set(dragging);
+    }
+
+    public BooleanProperty resizingProperty() {
+        return resizing;
+    }
+
+    public boolean isResizing() {
+        return resizing.get();
+    }
+
+    public void setResizing(boolean resizing) {
+        this.resizing.set(resizing);
+    }
+
+    public BooleanProperty focusedWindowProperty() {
+        return focusedWindow;
+    }
+
+    public boolean isFocusedWindow() {
+        return focusedWindow.get();
+    }
+
+    public void setFocusedWindow(boolean focusedWindow) {
+        this.focusedWindow.set(focusedWindow);
+    }
+
+    /**
+     * State of the window shown as a pseudo class, the css is only
+     * processed again when the value really changes.
+     */
+    private final class StateProperty extends BooleanPropertyBase {
+
+        private final PseudoClass pseudoClass;
+        private final String name;
+
+        StateProperty(PseudoClass pseudoClass, String name) {
+            this.pseudoClass = pseudoClass;
+            this.name = name;
+        }
+
+        @Override
+        protected void invalidated() {
+            pseudoClassStateChanged(pseudoClass, get());
+        }
+
+        @Override
+        public Object getBean() {
+            return GNBackground.this;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+    }
+
 
     @Override
     public String getUserAgentStylesheet() {
@@ -0,0 +1,152 @@
+/*
+ * Copyright (C) Gleidson Neves da Silveira
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.gn.decorator.buttons;
+
+import com.sun.javafx.css.converters.PaintConverter;
+import com.sun.javafx.scene.control.skin.ButtonSkin;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import javafx.css.CssMetaData;
+import javafx.css.SimpleStyleableObjectProperty;
+import javafx.css.Styleable;
+import javafx.css.StyleableObjectProperty;
+import javafx.css.StyleableProperty;
+import javafx.scene.control.Button;
+import javafx.scene.control.ContentDisplay;
+import javafx.scene.control.Skin;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+import javafx.scene.shape.FillRule;
+import javafx.scene.shape.SVGPath;
+
+/**
+ * Button of the window bar, shows a glyph filled with -gn-fill.
+ * The css metadata and the user agent stylesheet are resolved once for all
+ * the buttons, not per instance or per css pass.
+ * Create on  17/10/2026
+ * Version 1.0
+ */
+public abstract class GNWindowButton extends Button {
+
+    private static final String USER_AGENT_STYLESHEET
+            = GNWindowButton.class.getResource("/com/gn/resources/css/controls/buttons.css").toExternalForm();
+
+    private final SVGPath glyph = new SVGPath();
+
+    private final StyleableObjectProperty<Paint> defaultFill = new SimpleStyleableObjectProperty<>(StyleableProperties.DEFAULT_FILL,
+            GNWindowButton.this,
+            "defaultFill",
+            Color.WHITE);
+
+    /**
+     * @param styleClass Style class of the button.
+     * @param glyph      Path of the glyph, one of the {@link Glyphs}.
+     */
+    protected GNWindowButton(String styleClass, String glyph) {
+        getStyleClass().add(styleClass);
+        setContentDisplay(ContentDisplay.GRAPHIC_ONLY);
+        this.glyph.getStyleClass().add("gn-glyph");
+        this.glyph.setFillRule(FillRule.EVEN_ODD);
+        this.glyph.setContent(glyph);
+        this.glyph.fillProperty().bind(defaultFill);
+        setGraphic(this.glyph);
+    }
+
+    /**
+     * Changes the glyph, the fill is kept.
+     * @param glyph Path of the glyph.
+     */
+    protected void setGlyph(String glyph) {
+        this.glyph.setContent(glyph);
+    }
+
+    @Override
+    protected Skin<?> createDefaultSkin() {
+        return new ButtonSkin(this);
+    }
+
+    @Override
+    public String getUserAgentStylesheet() {
+        return USER_AGENT_STYLESHEET;
+    }
+
+    public Paint getDefaultFill() {
+        return defaultFill.get();
+    }
+
+    public StyleableObjectProperty<Paint> defaultFillProperty() {
+        return this.defaultFill;
+    }
+
+    public void setDefaultFill(Paint color) {
+        this.defaultFill.set(color);
+    }
+
+    /**
+     * @deprecated Use {@link #getDefaultFill()}.
+     */
+    @Deprecated
+    public Paint getdefaultFill() {
+        return getDefaultFill();
+    }
+
+    /**
+     * @deprecated Use {@link #setDefaultFill(Paint)}.
+     */
+    @Deprecated
+    public void setdefaultFill(Paint color) {
+        setDefaultFill(color);
+    }
+
+    private static class StyleableProperties {
+
+        private static final CssMetaData<GNWindowButton, Paint> DEFAULT_FILL
+                = new CssMetaData<GNWindowButton, Paint>("-gn-fill",
+                        PaintConverter.getInstance(), Color.WHITE) {
+            @Override
+            public boolean isSettable(GNWindowButton control) {
+                return control.defaultFill == null || !control.defaultFill.isBound();
+            }
+
+            @Override
+            public StyleableProperty<Paint> getStyleableProperty(GNWindowButton control) {
+                return control.defaultFillProperty();
+            }
+        };
+
+        private static final List<CssMetaData<? extends Styleable, ?>> STYLEABLES;
+
+        static {
+            final List<CssMetaData<? extends Styleable, ?>> styleables
+                    = new ArrayList<>(Button.getClassCssMetaData());
+            Collections.addAll(styleables,
+                    DEFAULT_FILL);
+            STYLEABLES = Collections.unmodifiableList(styleables);
+        }
+    }
+
+    @Override
+    public List<CssMetaData<? extends Styleable, ?>> getControlCssMetaData() {
+        return getClassCssMetaData();
+    }
+
+    public static List<CssMetaData<? extends Styleable, ?>> getClassCssMetaData() {
+        return StyleableProperties.STYLEABLES;
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) Gleidson Neves da Silveira
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.gn.decorator.buttons;
+
+/**
+ * Path data of the button glyphs, drawn in a 10 x 10 box and filled with the
+ * -gn-fill of the button, so they need no effect to take the theme color.
+ * Create on  17/10/2026
+ * Version 1.0
+ */
+final class Glyphs {
+
+    static final String CLOSE =
+            "M1,0 L5,4 L9,0 L10,1 L6,5 L10,9 L9,10 L5,6 L1,10 L0,9 L4,5 L0,1 Z";
+
+    static final String MINIMIZE =
+            "M0,5 H10 V6 H0 Z";
+
+    // usados com EVEN_ODD | used with the EVEN_ODD fill rule, the inner squares are holes.
+    static final String MAXIMIZE =
+            "M0,0 H10 V10 H0 Z M1,1 V9 H9 V1 Z";
+
+    static final String RESTORE =
+            "M2,0 H10 V8 H8 V7 H9 V1 H3 V2 H2 Z M0,2 H8 V10 H0 Z M1,3 V9 H7 V3 Z";
+
+    static final String FULL_SCREEN =
+            "M0,0 H4 V1 H1 V4 H0 Z M6,0 H10 V4 H9 V1 H6 Z M0,6 H1 V9 H4 V10 H0 Z M10,6 V10 H6 V9 H9 V6 Z";
+
+    static final String UN_FULL_SCREEN =
+            "M3,0 H4 V4 H0 V3 H3 Z M6,0 H7 V3 H10 V4 H6 Z M0,6 H4 V10 H3 V7 H0 Z M6,6 H10 V7 H7 V10 H6 Z";
+
+    private Glyphs() {
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) Gleidson Neves da Silveira
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.gn.decorator.geometry;
+
+/**
+ * Mutable rectangle of primitive doubles, reused by the geometry code so the
+ * bounds of a gesture never need a new object.
+ * Create on  17/10/2026
+ * Version 1.0
+ */
+public final class Box {
+
+    private double x;
+    private double y;
+    private double width;
+    private double height;
+
+    public Box() {
+    }
+
+    public Box(double x, double y, double width, double height) {
+        set(x, y, width, height);
+    }
+
+    public void set(double x, double y, double width, double height) {
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+    }
+
+    public void set(Box box) {
+        set(box.x, box.y, box.width, box.height);
+    }
+
+    /**
+     * Leaves the box empty, with no area.
+     */
+    public void clear() {
+        set(0, 0, 0, 0);
+    }
+
+    /**
+     * @return true if the box has no area.
+     */
+    public boolean isEmpty() {
+        return width <= 0 || height <= 0;
+    }
+
+    public boolean contains(double x, double y) {
+        return x >= this.x && x < this.x + width && y >= this.y && y < this.y + height;
+    }
+
+    public double getX() {
+        return x;
+    }
+
+    public double getY() {
+        return y;
+    }
+
+    public double getWidth() {
+        return width;
+    }
+
+    public double getHeight() {
+        return height;
+    }
+
+    public double getMaxX() {
+        return x + width;
+    }
+
+    public double getMaxY() {
+        return y + height;
+    }
+
+    @Override
+    public String toString() {
+        return "Box[x=" + x + ", y=" + y + ", width=" + width + ", height=" + height + "]";
+    }
+}
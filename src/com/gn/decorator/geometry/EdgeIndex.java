@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) Gleidson Neves da Silveira
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.gn.decorator.geometry;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Edges along one axis, sorted by position, each spanning a range of the
+ * other axis. The edges near a position are found with a binary search, so
+ * a lookup costs O(log n) plus the few edges in reach.
+ * Create on  17/10/2026
+ * Version 1.0
+ */
+public final class EdgeIndex {
+
+    private static final Comparator<Edge> BY_POSITION = (a, b) -> Double.compare(a.position, b.position);
+
+    private Edge[]   edges = new Edge[8];
+    private double[] positions = new double[0];
+    private int      count = 0;
+    private boolean  sorted = true;
+
+    public void clear() {
+        Arrays.fill(edges, 0, count, null);
+        count = 0;
+        positions = new double[0];
+        sorted = true;
+    }
+
+    /**
+     * @param position Position of the edge.
+     * @param min      Start of the edge on the other axis.
+     * @param max      End of the edge on the other axis.
+     */
+    public void add(double position, double min, double max) {
+        if (count == edges.length) {
+            edges = Arrays.copyOf(edges, count * 2);
+        }
+        edges[count++] = new Edge(position, min, max);
+        sorted = false;
+    }
+
+    /**
+     * Adds both edges of a rectangle along this axis.
+     * @param start Start of the rectangle on this axis.
+     * @param end   End of the rectangle on this axis.
+     * @param min   Start of the rectangle on the other axis.
+     * @param max   End of the rectangle on the other axis.
+     */
+    public void add(double start, double end, double min, double max) {
+        add(start, min, max);
+        add(end, min, max);
+    }
+
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Smallest move that puts the start or the end of a rectangle on an edge
+     * that overlaps it on the other axis.
+     * @param start    Start of the rectangle on this axis.
+     * @param size     Size of the rectangle on this axis.
+     * @param spanMin  Start of the rectangle on the other axis.
+     * @param spanMax  End of the rectangle on the other axis.
+     * @param distance Reach of the edges.
+     * @return The move or NaN if no edge is in reach.
+     */
+    public double nearest(double start, double size, double spanMin, double spanMax, double distance) {
+        if (!sorted) {
+            sort();
+        }
+        double best = Double.NaN;
+        for (int side = 0; side < 2; side++) {
+            double position = side == 0 ? start : start + size;
+            int i = lowerBound(position - distance);
+            for (; i < count && positions[i] <= position + distance; i++) {
+                Edge edge = edges[i];
+                if (edge.max < spanMin || edge.min > spanMax) {
+                    continue;
+                }
+                double delta = edge.position - position;
+                if (Double.isNaN(best) || Math.abs(delta) < Math.abs(best)) {
+                    best = delta;
+                }
+            }
+        }
+        return best;
+    }
+
+    private void sort() {
+        Arrays.sort(edges, 0, count, BY_POSITION);
+        positions = new double[count];
+        for (int i = 0; i < count; i++) {
+            positions[i] = edges[i].position;
+        }
+        sorted = true;
+    }
+
+    private int lowerBound(double value) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (positions[middle] < value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Edge at a position, spanning from min to max on the other axis.
+     */
+    private static final class Edge {
+
+        private final double position;
+        private final double min;
+        private final double max;
+
+        Edge(double position, double min, double max) {
+            this.position = position;
+            this.min = min;
+            this.max = max;
+        }
+    }
+}
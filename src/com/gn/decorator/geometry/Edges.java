@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) Gleidson Neves da Silveira
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.gn.decorator.geometry;
+
+/**
+ * Edges of a rectangle as bits, combined for the corners.
+ * Create on  17/10/2026
+ * Version 1.0
+ */
+public final class Edges {
+
+    public static final int NONE   = 0;
+    public static final int TOP    = 1;
+    public static final int RIGHT  = 2;
+    public static final int BOTTOM = 4;
+    public static final int LEFT   = 8;
+
+    private Edges() {
+    }
+
+    /**
+     * Finds the edges under a point, an edge near a corner takes the corner.
+     * @param localX Point x inside the rectangle.
+     * @param localY Point y inside the rectangle.
+     * @param width  Width of the rectangle.
+     * @param height Height of the rectangle.
+     * @param border Thickness of the edges.
+     * @param corner Length of the corner arms, measured from the corner along each edge.
+     * @return The edges or {@link #NONE}.
+     */
+    public static int hitTest(double localX, double localY, double width, double height,
+                              double border, double corner) {
+        boolean top    = localY < border;
+        boolean bottom = localY >= height - border;
+        boolean left   = localX < border;
+        boolean right  = localX >= width - border;
+
+        if (!top && !bottom && !left && !right) {
+            return NONE;
+        }
+
+        boolean nearTop    = localY < corner;
+        boolean nearBottom = localY >= height - corner;
+        boolean nearLeft   = localX < corner;
+        boolean nearRight  = localX >= width - corner;
+
+        if ((top && nearLeft) || (left && nearTop)) {
+            return TOP | LEFT;
+        } else if ((top && nearRight) || (right && nearTop)) {
+            return TOP | RIGHT;
+        } else if ((bottom && nearLeft) || (left && nearBottom)) {
+            return BOTTOM | LEFT;
+        } else if ((bottom && nearRight) || (right && nearBottom)) {
+            return BOTTOM | RIGHT;
+        } else if (top) {
+            return TOP;
+        } else if (bottom) {
+            return BOTTOM;
+        } else if (left) {
+            return LEFT;
+        }
+        return RIGHT;
+    }
+
+    public static boolean isTop(int edges) {
+        return (edges & TOP) != 0;
+    }
+
+    public static boolean isRight(int edges) {
+        return (edges & RIGHT) != 0;
+    }
+
+    public static boolean isBottom(int edges) {
+        return (edges & BOTTOM) != 0;
+    }
+
+    public static boolean isLeft(int edges) {
+        return (edges & LEFT) != 0;
+    }
+}
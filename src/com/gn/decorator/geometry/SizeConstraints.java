@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) Gleidson Neves da Silveira
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.gn.decorator.geometry;
+
+/**
+ * Limits of the size of a window during a resize: minimum and maximum,
+ * steps from a base size for grid content and an aspect ratio.
+ * All of them are applied in one bounds computation, see
+ * {@link WindowGeometry#resize(int, Box, double, double, SizeConstraints, Box)}.
+ * Create on  17/10/2026
+ * Version 1.0
+ */
+public final class SizeConstraints {
+
+    private double minWidth = 0;
+    private double minHeight = 0;
+    private double maxWidth = Double.MAX_VALUE;
+    private double maxHeight = Double.MAX_VALUE;
+
+    private double baseWidth = 0;
+    private double baseHeight = 0;
+    private double stepWidth = 0;
+    private double stepHeight = 0;
+
+    private double aspectRatio = 0;
+
+    public void set(SizeConstraints constraints) {
+        this.minWidth = constraints.minWidth;
+        this.minHeight = constraints.minHeight;
+        this.maxWidth = constraints.maxWidth;
+        this.maxHeight = constraints.maxHeight;
+        this.baseWidth = constraints.baseWidth;
+        this.baseHeight = constraints.baseHeight;
+        this.stepWidth = constraints.stepWidth;
+        this.stepHeight = constraints.stepHeight;
+        this.aspectRatio = constraints.aspectRatio;
+    }
+
+    public void setMinimum(double width, double height) {
+        this.minWidth = width;
+        this.minHeight = height;
+    }
+
+    public void setMaximum(double width, double height) {
+        this.maxWidth = width;
+        this.maxHeight = height;
+    }
+
+    /**
+     * Size of the part that does not follow the steps or the ratio, like the bar and the borders.
+     */
+    public void setBase(double width, double height) {
+        this.baseWidth = width;
+        this.baseHeight = height;
+    }
+
+    /**
+     * Size of the cells of grid content, the window grows one cell at a time.
+     * @param width  Width of a cell, 0 for no steps.
+     * @param height Height of a cell, 0 for no steps.
+     */
+    public void setStep(double width, double height) {
+        this.stepWidth = width;
+        this.stepHeight = height;
+    }
+
+    /**
+     * @param aspectRatio Width divided by height of the content, the size without the base, 0 for a free ratio.
+     */
+    public void setAspectRatio(double aspectRatio) {
+        this.aspectRatio = aspectRatio;
+    }
+
+    public double getMinWidth() {
+        return minWidth;
+    }
+
+    public double getMinHeight() {
+        return minHeight;
+    }
+
+    public double getMaxWidth() {
+        return maxWidth;
+    }
+
+    public double getMaxHeight() {
+        return maxHeight;
+    }
+
+    public double getBaseWidth() {
+        return baseWidth;
+    }
+
+    public double getBaseHeight() {
+        return baseHeight;
+    }
+
+    public double getStepWidth() {
+        return stepWidth;
+    }
+
+    public double getStepHeight() {
+        return stepHeight;
+    }
+
+    public double getAspectRatio() {
+        return aspectRatio;
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (C) Gleidson Neves da Silveira
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.gn.decorator.geometry;
+
+/**
+ * Window math on primitive doubles, with no stage and no screen.
+ * The decorations and the prototypes apply the results to their stages.
+ * Create on  17/10/2026
+ * Version 1.0
+ */
+public final class WindowGeometry {
+
+    private WindowGeometry() {
+    }
+
+    public static double clamp(double value, double min, double max) {
+        return Math.min(Math.max(value, min), max);
+    }
+
+    /**
+     * @return true if the size is inside the constraints.
+     */
+    public static boolean fits(double size, double min, double max) {
+        return size >= min && size <= max;
+    }
+
+    /**
+     * A window is never moved below the bottom of the screen that holds it,
+     * its bar would be out of reach.
+     * @param y       New y.
+     * @param screenMaxY Bottom of the screen.
+     * @return true if the window may go to y.
+     */
+    public static boolean isAbove(double y, double screenMaxY) {
+        return y < screenMaxY;
+    }
+
+    /**
+     * Bounds of a resize, always from the bounds captured on press.
+     * The size follows the steps first, then the aspect ratio from the axis
+     * that moved the most, then the limits; with a ratio the limits of both
+     * axes are merged into one range, so clamping one axis never pushes the
+     * other out. The steps and the ratio apply to the size without the base,
+     * the content, and the base is added back to the window.
+     * The edges left or top keep the opposite edge in place.
+     * @param edges       Edges dragged, see {@link Edges}.
+     * @param start       Bounds on press.
+     * @param deltaX      Pointer move on x since the press.
+     * @param deltaY      Pointer move on y since the press.
+     * @param constraints Limits of the size.
+     * @param out         Receives the new bounds.
+     */
+    public static void resize(int edges, Box start, double deltaX, double deltaY,
+                              SizeConstraints constraints, Box out) {
+        boolean horizontal = Edges.isLeft(edges) || Edges.isRight(edges);
+        boolean vertical = Edges.isTop(edges) || Edges.isBottom(edges);
+
+        double width = start.getWidth();
+        double height = start.getHeight();
+
+        if (Edges.isLeft(edges)) {
+            width -= deltaX;
+        } else if (Edges.isRight(edges)) {
+            width += deltaX;
+        }
+
+        if (Edges.isTop(edges)) {
+            height -= deltaY;
+        } else if (Edges.isBottom(edges)) {
+            height += deltaY;
+        }
+
+        double baseWidth = constraints.getBaseWidth();
+        double baseHeight = constraints.getBaseHeight();
+
+        width = step(width, baseWidth, constraints.getStepWidth());
+        height = step(height, baseHeight, constraints.getStepHeight());
+
+        double minWidth = constraints.getMinWidth();
+        double minHeight = constraints.getMinHeight();
+        double maxWidth = Math.max(minWidth, constraints.getMaxWidth());
+        double maxHeight = Math.max(minHeight, constraints.getMaxHeight());
+
+        double ratio = constraints.getAspectRatio();
+        if (ratio > 0) {
+            boolean byWidth = horizontal && (!vertical
+                    || change(width, start.getWidth()) >= change(height, start.getHeight()));
+            if (!byWidth) {
+                width = baseWidth + (height - baseHeight) * ratio;
+            }
+            double low = Math.max(minWidth, baseWidth + (minHeight - baseHeight) * ratio);
+            double high = Math.min(maxWidth, baseWidth + (maxHeight - baseHeight) * ratio);
+            width = clamp(width, low, Math.max(low, high));
+            height = baseHeight + (width - baseWidth) / ratio;
+        } else {
+            width = clamp(width, minWidth, maxWidth);
+            height = clamp(height, minHeight, maxHeight);
+        }
+
+        double x = Edges.isLeft(edges) ? start.getMaxX() - width : start.getX();
+        double y = Edges.isTop(edges) ? start.getMaxY() - height : start.getY();
+
+        out.set(x, y, width, height);
+    }
+
+    private static double step(double size, double base, double step) {
+        if (step <= 0) {
+            return size;
+        }
+        return base + Math.round((size - base) / step) * step;
+    }
+
+    private static double change(double size, double start) {
+        return start > 0 ? Math.abs(size - start) / start : Math.abs(size - start);
+    }
+
+    /**
+     * X of a maximized or snapped window restored under the pointer, centered
+     * on it and kept inside the right side of the screen.
+     * @param pointerX   Pointer x on the screen.
+     * @param width      Restored width.
+     * @param screenMinX Left of the screen.
+     * @param screenMaxX Right of the screen.
+     * @return The new x.
+     */
+    public static double restoreX(double pointerX, double width, double screenMinX, double screenMaxX) {
+        double x = pointerX - width / 2;
+        if (x >= screenMinX && x + width > screenMaxX) {
+            x = screenMaxX - width;
+        }
+        return x;
+    }
+
+    /**
+     * Part of a screen given as fractions of its bounds.
+     * @param screen Bounds of the screen.
+     * @param x      Fraction of the width before the part.
+     * @param y      Fraction of the height before the part.
+     * @param width  Fraction of the width taken.
+     * @param height Fraction of the height taken.
+     * @param out    Receives the part.
+     */
+    public static void layout(Box screen, double x, double y, double width, double height, Box out) {
+        out.set(screen.getX() + screen.getWidth() * x,
+                screen.getY() + screen.getHeight() * y,
+                screen.getWidth() * width,
+                screen.getHeight() * height);
+    }
+
+    /**
+     * Bounds between two others.
+     * @param from     Bounds at fraction 0.
+     * @param to       Bounds at fraction 1.
+     * @param fraction Position between them.
+     * @param out      Receives the bounds.
+     */
+    public static void interpolate(Box from, Box to, double fraction, Box out) {
+        out.set(from.getX() + (to.getX() - from.getX()) * fraction,
+                from.getY() + (to.getY() - from.getY()) * fraction,
+                from.getWidth() + (to.getWidth() - from.getWidth()) * fraction,
+                from.getHeight() + (to.getHeight() - from.getHeight()) * fraction);
+    }
+
+    /**
+     * @return Area shared by two rectangles, 0 when they do not meet.
+     */
+    public static double overlap(double ax, double ay, double aWidth, double aHeight,
+                                 double bx, double by, double bWidth, double bHeight) {
+        double width = Math.min(ax + aWidth, bx + bWidth) - Math.max(ax, bx);
+        double height = Math.min(ay + aHeight, by + bHeight) - Math.max(ay, by);
+        return width > 0 && height > 0 ? width * height : 0;
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright (C) Gleidson Neves da Silveira
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.gn.decorator.layout;
+
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.collections.ObservableList;
+import javafx.geometry.HPos;
+import javafx.geometry.VPos;
+import javafx.scene.Node;
+import javafx.scene.layout.Region;
+
+/**
+ * Body of the decoration, places the bar, the icon, the title, the buttons
+ * and the content from its own layoutChildren.
+ * The bar is a plain region that draws the background and takes the drag
+ * events, its children are sized and positioned here, so a resize step does
+ * not go through a chain of anchor panes and boxes. The title is centered on
+ * the width of the bar, moved only as far as the icon and the buttons allow.
+ * Create on  17/10/2026
+ * Version 1.0
+ */
+public class DecoratorPane extends Region {
+
+    private final Bar  bar = new Bar();
+    private final Node content;
+
+    private Node leading  = null;
+    private Node title    = null;
+    private Node trailing = null;
+
+    private boolean centerTitle     = false;
+    private boolean contentOverlaid = false;
+    private boolean floating        = false;
+
+    private long layouts;
+    private long layoutTime;
+
+    private final DoubleProperty barHeight = new SimpleDoubleProperty(DecoratorPane.this, "barHeight", 30) {
+        @Override
+        protected void invalidated() {
+            requestLayout();
+        }
+    };
+
+    /**
+     * @param content Area of the content, placed under the bar.
+     */
+    public DecoratorPane(Node content) {
+        this.content = content;
+        getChildren().addAll(content, bar);
+    }
+
+    /**
+     * @return Region of the bar, the style class and the mouse handlers are set on it.
+     */
+    public Region getBar() {
+        return bar;
+    }
+
+    /**
+     * @param leading Node at the left of the bar, at least as wide as the bar is high.
+     */
+    public void setLeading(Node leading) {
+        this.leading = leading;
+        updateBar();
+    }
+
+    public void setTitle(Node title) {
+        this.title = title;
+        updateBar();
+    }
+
+    /**
+     * @param trailing Node at the right of the bar, kept when the bar floats.
+     */
+    public void setTrailing(Node trailing) {
+        this.trailing = trailing;
+        updateBar();
+    }
+
+    public DoubleProperty barHeightProperty() {
+        return barHeight;
+    }
+
+    public double getBarHeight() {
+        return barHeight.get();
+    }
+
+    public void setBarHeight(double barHeight) {
+        this.barHeight.set(barHeight);
+    }
+
+    /**
+     * @param centerTitle true to center the title on the bar, false to place it after the leading node.
+     */
+    public void setCenterTitle(boolean centerTitle) {
+        if (this.centerTitle != centerTitle) {
+            this.centerTitle = centerTitle;
+            requestLayout();
+        }
+    }
+
+    public boolean isCenterTitle() {
+        return centerTitle;
+    }
+
+    /**
+     * @param contentOverlaid true if the content starts at the top, under the bar.
+     */
+    public void setContentOverlaid(boolean contentOverlaid) {
+        if (this.contentOverlaid != contentOverlaid) {
+            this.contentOverlaid = contentOverlaid;
+            requestLayout();
+        }
+    }
+
+    public boolean isContentOverlaid() {
+        return contentOverlaid;
+    }
+
+    /**
+     * A floating bar keeps only the trailing node and is as wide as it, at the right.
+     * @param floating true to float the bar.
+     */
+    public void setFloating(boolean floating) {
+        if (this.floating != floating) {
+            this.floating = floating;
+            updateBar();
+        }
+    }
+
+    public boolean isFloating() {
+        return floating;
+    }
+
+    private void updateBar() {
+        ObservableList<Node> nodes = bar.nodes();
+        nodes.clear();
+        if (!floating) {
+            if (leading != null) nodes.add(leading);
+            if (title != null) nodes.add(title);
+        }
+        if (trailing != null) nodes.add(trailing);
+        requestLayout();
+    }
+
+    private boolean inBar(Node node) {
+        return node != null && node.getParent() == bar;
+    }
+
+    @Override
+    protected void layoutChildren() {
+        long start = System.nanoTime();
+        double left   = snappedLeftInset();
+        double top    = snappedTopInset();
+        double width  = getWidth() - left - snappedRightInset();
+        double height = getHeight() - top - snappedBottomInset();
+        double barSize = snapSize(barHeight.get());
+
+        double contentTop = contentTop();
+        content.resizeRelocate(left, top + contentTop, width, Math.max(0, height - contentTop));
+
+        double barWidth = floating ? Math.min(width, barPrefWidth()) : width;
+        bar.resizeRelocate(left + width - barWidth, top, barWidth, barSize);
+        layoutBar(barWidth, barSize);
+
+        layouts++;
+        layoutTime += System.nanoTime() - start;
+    }
+
+    /**
+     * @return Number of layout passes of the pane.
+     */
+    public long getLayoutCount() {
+        return layouts;
+    }
+
+    /**
+     * @return Time spent placing the bar, its children and the content area,
+     * in nanoseconds. The layout of the content itself is not included.
+     */
+    public long getLayoutTime() {
+        return layoutTime;
+    }
+
+    public void resetStatistics() {
+        layouts = 0;
+        layoutTime = 0;
+    }
+
+    /**
+     * Lays out the children of the bar, in the coordinates of the bar.
+     */
+    private void layoutBar(double width, double height) {
+        double minX = bar.snappedLeftInset();
+        double maxX = width - bar.snappedRightInset();
+        double y = bar.snappedTopInset();
+        double innerHeight = Math.max(0, height - y - bar.snappedBottomInset());
+
+        double leadingWidth = 0;
+        if (inBar(leading)) {
+            leadingWidth = Math.max(snapSize(leading.prefWidth(-1)), innerHeight);
+            layoutInArea(leading, minX, y, leadingWidth, innerHeight, 0, HPos.CENTER, VPos.CENTER);
+        }
+
+        double trailingWidth = 0;
+        if (inBar(trailing)) {
+            trailingWidth = Math.min(snapSize(trailing.prefWidth(-1)), Math.max(0, maxX - minX - leadingWidth));
+            layoutInArea(trailing, maxX - trailingWidth, y, trailingWidth, innerHeight, 0, HPos.RIGHT, VPos.CENTER);
+        }
+
+        if (inBar(title)) {
+            double from = minX + leadingWidth;
+            double to = maxX - trailingWidth;
+            double titleWidth = Math.min(snapSize(title.prefWidth(-1)), Math.max(0, to - from));
+            double x = from;
+            if (centerTitle) {
+                x = Math.max(from, Math.min(to - titleWidth, snapPosition((width - titleWidth) / 2)));
+            }
+            layoutInArea(title, x, y, titleWidth, innerHeight, 0, HPos.LEFT, VPos.CENTER);
+        }
+    }
+
+    private double barPrefWidth() {
+        double width = bar.snappedLeftInset() + bar.snappedRightInset();
+        if (inBar(leading)) width += Math.max(snapSize(leading.prefWidth(-1)), barHeight.get());
+        if (inBar(title)) width += snapSize(title.prefWidth(-1));
+        if (inBar(trailing)) width += snapSize(trailing.prefWidth(-1));
+        return width;
+    }
+
+    private double barMinWidth() {
+        double width = bar.snappedLeftInset() + bar.snappedRightInset();
+        if (inBar(leading)) width += Math.max(snapSize(leading.minWidth(-1)), barHeight.get());
+        if (inBar(trailing)) width += snapSize(trailing.minWidth(-1));
+        return width;
+    }
+
+    private double contentTop() {
+        return contentOverlaid ? 0 : snapSize(barHeight.get());
+    }
+
+    @Override
+    protected double computeMinWidth(double height) {
+        return snappedLeftInset() + snappedRightInset() + Math.max(content.minWidth(-1), barMinWidth());
+    }
+
+    @Override
+    protected double computeMinHeight(double width) {
+        return snappedTopInset() + snappedBottomInset()
+                + Math.max(snapSize(barHeight.get()), contentTop() + content.minHeight(-1));
+    }
+
+    @Override
+    protected double computePrefWidth(double height) {
+        return snappedLeftInset() + snappedRightInset() + Math.max(content.prefWidth(-1), barPrefWidth());
+    }
+
+    @Override
+    protected double computePrefHeight(double width) {
+        return snappedTopInset() + snappedBottomInset()
+                + Math.max(snapSize(barHeight.get()), contentTop() + content.prefHeight(-1));
+    }
+
+    /**
+     * Region of the bar, its children are laid out by the decorator pane.
+     */
+    private static final class Bar extends Region {
+
+        ObservableList<Node> nodes() {
+            return getChildren();
+        }
+
+        @Override
+        protected void layoutChildren() {
+            // posicionados pelo DecoratorPane | placed by the decorator pane in the same pass.
+        }
+    }
+}
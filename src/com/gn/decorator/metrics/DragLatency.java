@@ -0,0 +1,182 @@
+/*
+ * Copyright (C) Gleidson Neves da Silveira
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.gn.decorator.metrics;
+
+import javafx.animation.AnimationTimer;
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyDoubleWrapper;
+
+/**
+ * Time from a drag event to the pulse that renders the bounds it produced.
+ * Each event is marked when it reaches the handler, the marks are committed
+ * when the window receives new bounds and recorded with the time of the
+ * pulse that follows the commit, the one that renders the bounds.
+ * The interval reported ends when that pulse starts, its css, layout and
+ * render are not included. An event held by the coalescer or the rate limit
+ * counts until the pulse of the bounds that replaced it.
+ * Create on  17/10/2026
+ * Version 1.0
+ */
+public class DragLatency extends AnimationTimer {
+
+    private static final double MILLIS = 1_000_000D;
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    private final long[] marks = new long[64];
+    private int pending = 0;
+    private int committed = 0;
+    private long dropped = 0;
+
+    private boolean running = false;
+    private boolean ended = false;
+
+    private final ReadOnlyDoubleWrapper p50 = new ReadOnlyDoubleWrapper(DragLatency.this, "p50", 0);
+    private final ReadOnlyDoubleWrapper p99 = new ReadOnlyDoubleWrapper(DragLatency.this, "p99", 0);
+    private final ReadOnlyDoubleWrapper max = new ReadOnlyDoubleWrapper(DragLatency.this, "max", 0);
+
+    /**
+     * Marks an event that reached the handler.
+     * @param nanos Time of the event, from {@link System#nanoTime()}.
+     */
+    public void mark(long nanos) {
+        if (pending == marks.length) {
+            dropped++;
+            return;
+        }
+        marks[pending++] = nanos;
+        ended = false;
+    }
+
+    /**
+     * The window received the bounds of the events marked so far.
+     */
+    public void commit() {
+        if (committed == pending) {
+            return;
+        }
+        committed = pending;
+        if (!running) {
+            start();
+        }
+    }
+
+    @Override
+    public void handle(long now) {
+        if (committed == 0) {
+            stop();
+            return;
+        }
+        // committed before this pulse, which renders them. The pulse time has the origin of System.nanoTime().
+        for (int i = 0; i < committed; i++) {
+            histogram.record(now - marks[i]);
+        }
+        System.arraycopy(marks, committed, marks, 0, pending - committed);
+        pending -= committed;
+        committed = 0;
+
+        if (ended && pending == 0) {
+            ended = false;
+            publish();
+        }
+    }
+
+    /**
+     * Drops the marks not committed, used when the gesture ends. The
+     * properties are published on the pulse of the last bounds.
+     */
+    public void end() {
+        pending = committed;
+        if (pending == 0) {
+            publish();
+        } else {
+            ended = true;
+        }
+    }
+
+    /**
+     * Updates the properties from the histogram, called at the end of each
+     * gesture instead of on every event.
+     */
+    public void publish() {
+        p50.set(histogram.getPercentile(50) / MILLIS);
+        p99.set(histogram.getPercentile(99) / MILLIS);
+        max.set(histogram.getMax() / MILLIS);
+    }
+
+    @Override
+    public void start() {
+        super.start();
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        super.stop();
+        running = false;
+    }
+
+    public LatencyHistogram getHistogram() {
+        return histogram;
+    }
+
+    /**
+     * @return Number of events not marked because too many were waiting for a pulse.
+     */
+    public long getDroppedCount() {
+        return dropped;
+    }
+
+    public void reset() {
+        histogram.reset();
+        dropped = 0;
+        publish();
+    }
+
+    /**
+     * @return Median latency in milliseconds.
+     */
+    public double getP50() {
+        return p50.get();
+    }
+
+    public ReadOnlyDoubleProperty p50Property() {
+        return p50.getReadOnlyProperty();
+    }
+
+    /**
+     * @return 99th percentile latency in milliseconds.
+     */
+    public double getP99() {
+        return p99.get();
+    }
+
+    public ReadOnlyDoubleProperty p99Property() {
+        return p99.getReadOnlyProperty();
+    }
+
+    /**
+     * @return Longest latency in milliseconds.
+     */
+    public double getMax() {
+        return max.get();
+    }
+
+    public ReadOnlyDoubleProperty maxProperty() {
+        return max.getReadOnlyProperty();
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) Gleidson Neves da Silveira
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.gn.decorator.metrics;
+
+import java.util.Arrays;
+
+/**
+ * Histogram of latencies with fixed buckets, recorded with no allocation.
+ * The buckets are 100 microseconds wide up to 100 milliseconds, longer
+ * latencies only count in the maximum and in the last bucket.
+ * Create on  17/10/2026
+ * Version 1.0
+ */
+public class LatencyHistogram {
+
+    private static final long BUCKET = 100_000L;
+    private static final int  BUCKETS = 1000;
+
+    private final long[] counts = new long[BUCKETS + 1];
+
+    private long count = 0;
+    private long max = 0;
+
+    /**
+     * @param nanos Latency in nanoseconds.
+     */
+    public void record(long nanos) {
+        if (nanos < 0) {
+            nanos = 0;
+        }
+        int bucket = (int) Math.min(nanos / BUCKET, BUCKETS);
+        counts[bucket]++;
+        count++;
+        if (nanos > max) {
+            max = nanos;
+        }
+    }
+
+    /**
+     * @param percentile Percentile wanted, from 0 to 100.
+     * @return Upper bound of the bucket holding the percentile, in nanoseconds.
+     */
+    public long getPercentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(count * percentile / 100D);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= Math.max(rank, 1)) {
+                return Math.min((i + 1) * BUCKET, max);
+            }
+        }
+        return max;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return The longest latency recorded, in nanoseconds.
+     */
+    public long getMax() {
+        return max;
+    }
+
+    public void reset() {
+        Arrays.fill(counts, 0);
+        count = 0;
+        max = 0;
+    }
+}
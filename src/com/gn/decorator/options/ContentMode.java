@@ -0,0 +1,28 @@
+/*
+ * Copyright (C) Gleidson Neves da Silveira
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.gn.decorator.options;
+
+/**
+ * How the decoration hosts the content.
+ * WRAPPED places it in a scroll pane fitted to the area, DIRECT places it in
+ * the area with no scroll pane, for content that scrolls by itself.
+ * Create on  17/10/2026
+ * Version 1.0
+ */
+public enum ContentMode {
+    WRAPPED, DIRECT
+}
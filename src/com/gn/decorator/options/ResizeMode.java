@@ -0,0 +1,30 @@
+/*
+ * Copyright (C) Gleidson Neves da Silveira
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.gn.decorator.options;
+
+/**
+ * How the window follows the mouse while it is resized.
+ * LIVE resizes the stage on each event, OUTLINE drags a light frame and
+ * resizes the stage once when the mouse is released, SNAPSHOT resizes the
+ * stage on each event but stretches a bitmap of the content, which is laid
+ * out once when the mouse is released.
+ * Create on  17/10/2026
+ * Version 1.0
+ */
+public enum ResizeMode {
+    LIVE, OUTLINE, SNAPSHOT
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright (C) Gleidson Neves da Silveira
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.gn.decorator.options;
+
+/**
+ * State of the decorated window.
+ * NORMAL, MAXIMIZED and SNAPPED are resting states, set by the decoration.
+ * FULLSCREEN and MINIMIZED follow the stage and, when they end, the window
+ * goes back to the last resting state.
+ * Create on  17/10/2026
+ * Version 1.0
+ */
+public enum WindowState {
+    NORMAL, MAXIMIZED, FULLSCREEN, MINIMIZED, SNAPPED;
+
+    /**
+     * @return true if the state is kept when the window leaves full screen or is restored from the task bar.
+     */
+    public boolean isResting() {
+        return this == NORMAL || this == MAXIMIZED || this == SNAPPED;
+    }
+}
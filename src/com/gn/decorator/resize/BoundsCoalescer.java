@@ -0,0 +1,229 @@
+/*
+ * Copyright (C) Gleidson Neves da Silveira
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.gn.decorator.resize;
+
+import javafx.animation.AnimationTimer;
+
+/**
+ * Keeps only the latest bounds submitted during a gesture and commits them
+ * once per pulse.
+ * High rate mice deliver several drag events per frame, each one would
+ * reconfigure the native window and lay out the scene again.
+ * A maximum rate and a budget per pulse can also hold bounds applied
+ * directly, the ones held are replaced by the next and only the latest
+ * reaches the window.
+ * The budget is charged with the time since the last pulse started, its
+ * css, layout and render included, so the bounds applied between pulses
+ * are held once the frame is over budget. The pulse itself always commits
+ * the latest bounds, the window follows the pointer at least once a frame.
+ * Create on  17/10/2026
+ * Version 1.0
+ */
+public class BoundsCoalescer extends AnimationTimer {
+
+    /**
+     * Receives the bounds to apply in the window.
+     */
+    public interface Commit {
+        void commit(double x, double y, double width, double height);
+    }
+
+    // the pulses do not arrive at exact intervals, a commit slightly early still counts.
+    private static final long PULSE_SLACK = 2_000_000L;
+
+    private final Commit commit;
+
+    private boolean running = false;
+    private boolean pending = false;
+
+    private double x;
+    private double y;
+    private double width;
+    private double height;
+
+    private long minInterval = 0;
+    private long frameBudget = 0;
+
+    private long lastCommit = 0;
+    private long pulseStart = 0;
+
+    private long submitted;
+    private long merged;
+    private long commits;
+
+    public BoundsCoalescer(Commit commit) {
+        this.commit = commit;
+    }
+
+    /**
+     * Stores the bounds for the next pulse, replacing the ones not committed yet.
+     */
+    public void submit(double x, double y, double width, double height) {
+        if (pending) {
+            merged++;
+        }
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+        pending = true;
+        submitted++;
+
+        if (!running) {
+            start();
+        }
+    }
+
+    /**
+     * Commits the bounds now when the rate and the budget allow it, otherwise
+     * holds them for a later pulse.
+     */
+    public void apply(double x, double y, double width, double height) {
+        if (minInterval == 0 && frameBudget == 0 && !pending) {
+            submitted++;
+            commits++;
+            commit.commit(x, y, width, height);
+            return;
+        }
+        // no pulse running, nothing else is using the frame.
+        boolean idle = !running;
+        submit(x, y, width, height);
+        long now = System.nanoTime();
+        if (canCommit(now) && (idle || withinBudget(now))) {
+            commitPending(now);
+        }
+    }
+
+    /**
+     * Commits the pending bounds now, used when the gesture ends.
+     */
+    public void flush() {
+        commitPending(System.nanoTime());
+    }
+
+    /**
+     * @param now Time of the commit, the pulse time when called from a pulse.
+     */
+    private void commitPending(long now) {
+        if (pending) {
+            pending = false;
+            commits++;
+            lastCommit = now;
+            commit.commit(x, y, width, height);
+        }
+    }
+
+    private boolean canCommit(long now) {
+        return minInterval == 0 || now - lastCommit >= minInterval - PULSE_SLACK;
+    }
+
+    /**
+     * @return true while the time since the pulse started is below the budget.
+     */
+    private boolean withinBudget(long now) {
+        return frameBudget == 0 || now - pulseStart < frameBudget;
+    }
+
+    /**
+     * Drops the pending bounds without committing them.
+     */
+    public void cancel() {
+        pending = false;
+    }
+
+    @Override
+    public void handle(long now) {
+        // a new frame, the pulse time has the same origin as System.nanoTime(), used by apply().
+        pulseStart = now;
+        if (pending) {
+            if (canCommit(now)) {
+                commitPending(now);
+            }
+        } else {
+            // nothing arrived in this frame, no need to keep asking for pulses.
+            stop();
+        }
+    }
+
+    @Override
+    public void start() {
+        super.start();
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        super.stop();
+        running = false;
+    }
+
+    /**
+     * Maximum number of bounds applied per second.
+     * @param rate Updates per second, 0 for no limit.
+     */
+    public void setMaxRate(double rate) {
+        this.minInterval = rate > 0 ? (long) (1_000_000_000D / rate) : 0;
+    }
+
+    public double getMaxRate() {
+        return minInterval > 0 ? 1_000_000_000D / minInterval : 0;
+    }
+
+    /**
+     * Time a frame may take before the bounds applied between pulses are held
+     * for the next pulse, counted from the start of the last pulse.
+     * @param millis Budget in milliseconds, 0 for no limit.
+     */
+    public void setFrameBudget(double millis) {
+        this.frameBudget = millis > 0 ? (long) (millis * 1_000_000D) : 0;
+    }
+
+    public double getFrameBudget() {
+        return frameBudget / 1_000_000D;
+    }
+
+    public boolean isPending() {
+        return pending;
+    }
+
+    /**
+     * @return Number of bounds submitted.
+     */
+    public long getSubmittedCount() {
+        return submitted;
+    }
+
+    /**
+     * @return Number of bounds replaced before reaching a pulse.
+     */
+    public long getMergedCount() {
+        return merged;
+    }
+
+    /**
+     * @return Number of bounds applied in the window.
+     */
+    public long getCommitCount() {
+        return commits;
+    }
+
+    public void resetStatistics() {
+        submitted = 0;
+        merged = 0;
+        commits = 0;
+    }
+}
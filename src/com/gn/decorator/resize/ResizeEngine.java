@@ -0,0 +1,223 @@
+/*
+ * Copyright (C) Gleidson Neves da Silveira
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.gn.decorator.resize;
+
+import com.gn.decorator.geometry.Box;
+import com.gn.decorator.geometry.Edges;
+import com.gn.decorator.geometry.SizeConstraints;
+import com.gn.decorator.geometry.WindowGeometry;
+
+/**
+ * Hit test and drag state of the resize gesture.
+ * The zone is found from the pointer position inside the decoration and the
+ * new bounds are always computed from the bounds captured on press, so a
+ * dropped or merged event never accumulates error.
+ * The constraints are merged with the limits of the stage on press and
+ * applied in the same computation.
+ * Create on  17/10/2026
+ * Version 1.0
+ */
+public class ResizeEngine {
+
+    private double border = 3D;
+    private double corner = 22D;
+
+    private double chromeWidth = 0;
+    private double chromeHeight = 0;
+
+    private ResizeZone zone = ResizeZone.NONE;
+
+    private double pressX;
+    private double pressY;
+
+    private final Box start = new Box();
+
+    private final SizeConstraints constraints = new SizeConstraints();
+    private final SizeConstraints effective = new SizeConstraints();
+
+    private final Box bounds = new Box();
+
+    private long updates;
+    private long updateNanos;
+
+    /**
+     * Thickness of the edges that start a resize.
+     * @param border Thickness in pixels.
+     */
+    public void setBorder(double border) {
+        this.border = border;
+    }
+
+    public double getBorder() {
+        return border;
+    }
+
+    /**
+     * Length of the corner arms, measured from the corner along each edge.
+     * @param corner Length in pixels.
+     */
+    public void setCorner(double corner) {
+        this.corner = corner;
+    }
+
+    public double getCorner() {
+        return corner;
+    }
+
+    /**
+     * Size of the bar and the borders, added to the base of the constraints
+     * from the next gesture on, so the ratio and the steps apply to the content.
+     * @param width  Width of the borders.
+     * @param height Height of the bar and the borders.
+     */
+    public void setChrome(double width, double height) {
+        this.chromeWidth = width;
+        this.chromeHeight = height;
+    }
+
+    /**
+     * @return The constraints applied from the next gesture on.
+     */
+    public SizeConstraints getConstraints() {
+        return constraints;
+    }
+
+    /**
+     * Finds the zone under the pointer.
+     * @param localX Pointer x inside the decoration.
+     * @param localY Pointer y inside the decoration.
+     * @param width  Width of the decoration.
+     * @param height Height of the decoration.
+     * @return The zone or {@link ResizeZone#NONE}.
+     */
+    public ResizeZone hitTest(double localX, double localY, double width, double height) {
+        return ResizeZone.of(Edges.hitTest(localX, localY, width, height, border, corner));
+    }
+
+    /**
+     * Starts a gesture.
+     * @param zone      Zone pressed.
+     * @param screenX   Pointer x on the screen.
+     * @param screenY   Pointer y on the screen.
+     * @param x         Window x.
+     * @param y         Window y.
+     * @param width     Window width.
+     * @param height    Window height.
+     * @param minWidth  Minimum width allowed.
+     * @param minHeight Minimum height allowed.
+     * @param maxWidth  Maximum width allowed.
+     * @param maxHeight Maximum height allowed.
+     */
+    public void begin(ResizeZone zone, double screenX, double screenY,
+                      double x, double y, double width, double height,
+                      double minWidth, double minHeight, double maxWidth, double maxHeight) {
+        this.zone = zone;
+        this.pressX = screenX;
+        this.pressY = screenY;
+        this.start.set(x, y, width, height);
+        this.bounds.set(x, y, width, height);
+        this.effective.set(constraints);
+        this.effective.setBase(constraints.getBaseWidth() + chromeWidth,
+                constraints.getBaseHeight() + chromeHeight);
+        this.effective.setMinimum(Math.max(constraints.getMinWidth(), minWidth),
+                Math.max(constraints.getMinHeight(), minHeight));
+        this.effective.setMaximum(Math.min(constraints.getMaxWidth(), maxWidth),
+                Math.min(constraints.getMaxHeight(), maxHeight));
+    }
+
+    /**
+     * Computes the bounds for the pointer position.
+     * @param screenX Pointer x on the screen.
+     * @param screenY Pointer y on the screen.
+     * @return true if the bounds changed since the last update.
+     */
+    public boolean update(double screenX, double screenY) {
+        if (zone == ResizeZone.NONE) {
+            return false;
+        }
+
+        double x = bounds.getX();
+        double y = bounds.getY();
+        double width = bounds.getWidth();
+        double height = bounds.getHeight();
+
+        WindowGeometry.resize(zone.getEdges(), start, screenX - pressX, screenY - pressY,
+                effective, bounds);
+
+        return x != bounds.getX() || y != bounds.getY()
+                || width != bounds.getWidth() || height != bounds.getHeight();
+    }
+
+    /**
+     * Ends the gesture.
+     */
+    public void end() {
+        zone = ResizeZone.NONE;
+    }
+
+    public boolean isActive() {
+        return zone != ResizeZone.NONE;
+    }
+
+    public ResizeZone getZone() {
+        return zone;
+    }
+
+    public double getX() {
+        return bounds.getX();
+    }
+
+    public double getY() {
+        return bounds.getY();
+    }
+
+    public double getWidth() {
+        return bounds.getWidth();
+    }
+
+    public double getHeight() {
+        return bounds.getHeight();
+    }
+
+    /**
+     * Registers the cost of one drag event, computing and applying the bounds.
+     * @param nanos Time spent, in nanoseconds.
+     */
+    public void measure(long nanos) {
+        updates++;
+        updateNanos += nanos;
+    }
+
+    /**
+     * @return Number of drag events processed.
+     */
+    public long getUpdateCount() {
+        return updates;
+    }
+
+    /**
+     * @return Time spent on drag events, in nanoseconds.
+     */
+    public long getUpdateNanos() {
+        return updateNanos;
+    }
+
+    public void resetStatistics() {
+        updates = 0;
+        updateNanos = 0;
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) Gleidson Neves da Silveira
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.gn.decorator.resize;
+
+import javafx.scene.layout.StackPane;
+import javafx.stage.Popup;
+import javafx.stage.Stage;
+
+/**
+ * Transparent frame shown over the window while it is resized in outline mode.
+ * Only the frame follows the mouse, the content of the window is laid out
+ * once when the gesture ends.
+ * The frame is a popup, it is shown without taking the focus or the mouse
+ * from the window dragged.
+ * Create on  17/10/2026
+ * Version 1.0
+ */
+public class ResizeOutline {
+
+    private static final String STYLESHEET = ResizeOutline.class.getResource("/com/gn/resources/css/decorator/decorator.css").toExternalForm();
+
+    private final Stage  owner;
+    private final String styleClass;
+    private Popup     popup = null;
+    private StackPane frame = null;
+
+    public ResizeOutline(Stage owner) {
+        this(owner, "gn-resize-outline");
+    }
+
+    /**
+     * @param owner      Window that owns the frame.
+     * @param styleClass Style class of the frame.
+     */
+    public ResizeOutline(Stage owner, String styleClass) {
+        this.owner = owner;
+        this.styleClass = styleClass;
+    }
+
+    private Popup popup() {
+        if (popup == null) {
+            frame = new StackPane();
+            frame.getStyleClass().add(styleClass);
+            frame.getStylesheets().add(STYLESHEET);
+            frame.setMouseTransparent(true);
+
+            popup = new Popup();
+            popup.setAutoFix(false);
+            popup.setAutoHide(false);
+            popup.setHideOnEscape(false);
+            popup.getContent().add(frame);
+        }
+        return popup;
+    }
+
+    /**
+     * Shows the frame with the bounds of the window.
+     */
+    public void show(double x, double y, double width, double height) {
+        Popup popup = popup();
+        resize(width, height);
+        if (!popup.isShowing()) {
+            popup.show(owner, x, y);
+        }
+        popup.setX(x);
+        popup.setY(y);
+    }
+
+    /**
+     * Moves the frame to the bounds computed by the gesture.
+     */
+    public void move(double x, double y, double width, double height) {
+        Popup popup = popup();
+        resize(width, height);
+        popup.setX(x);
+        popup.setY(y);
+    }
+
+    private void resize(double width, double height) {
+        frame.setMinSize(width, height);
+        frame.setPrefSize(width, height);
+        frame.setMaxSize(width, height);
+    }
+
+    public void hide() {
+        if (popup != null) {
+            popup.hide();
+        }
+    }
+
+    public boolean isShowing() {
+        return popup != null && popup.isShowing();
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (C) Gleidson Neves da Silveira
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.gn.decorator.resize;
+
+import javafx.scene.CacheHint;
+import javafx.scene.Node;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.StackPane;
+
+/**
+ * Freezes the content of the window in a bitmap while it is resized.
+ * The content is taken out of the layout and the bitmap is stretched over
+ * the area, then the content comes back and is laid out once.
+ * Create on  17/10/2026
+ * Version 1.0
+ */
+public class ResizeSnapshot {
+
+    private final StackPane area;
+    private Node            content;
+    private final ImageView view = new ImageView();
+
+    private boolean   frozen = false;
+    private boolean   cache;
+    private CacheHint cacheHint;
+
+    /**
+     * @param area    Area that holds the content.
+     * @param content Node to freeze, child of the area.
+     */
+    public ResizeSnapshot(StackPane area, Node content) {
+        this.area = area;
+        this.content = content;
+        this.view.setManaged(false);
+        this.view.setPreserveRatio(false);
+    }
+
+    /**
+     * Replaces the content by its snapshot.
+     */
+    public void freeze() {
+        if (frozen) {
+            return;
+        }
+        frozen = true;
+
+        view.setImage(content.snapshot(null, null));
+        view.fitWidthProperty().bind(area.widthProperty());
+        view.fitHeightProperty().bind(area.heightProperty());
+        area.getChildren().add(view);
+
+        content.setVisible(false);
+        content.setManaged(false);
+
+        cache = area.isCache();
+        cacheHint = area.getCacheHint();
+        area.setCache(true);
+        area.setCacheHint(CacheHint.SCALE);
+    }
+
+    /**
+     * Drops the snapshot and lays out the content again.
+     */
+    public void thaw() {
+        if (!frozen) {
+            return;
+        }
+        frozen = false;
+
+        area.setCache(cache);
+        area.setCacheHint(cacheHint);
+
+        area.getChildren().remove(view);
+        view.fitWidthProperty().unbind();
+        view.fitHeightProperty().unbind();
+        view.setImage(null);
+
+        content.setManaged(true);
+        content.setVisible(true);
+        area.requestLayout();
+    }
+
+    /**
+     * Changes the node frozen, a frozen content is thawed first.
+     * @param content Node to freeze, child of the area.
+     */
+    public void setContent(Node content) {
+        thaw();
+        this.content = content;
+    }
+
+    public boolean isFrozen() {
+        return frozen;
+    }
+}
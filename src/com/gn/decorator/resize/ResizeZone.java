@@ -0,0 +1,109 @@
+/*
+ * Copyright (C) Gleidson Neves da Silveira
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.gn.decorator.resize;
+
+import com.gn.decorator.geometry.Edges;
+import javafx.scene.Cursor;
+
+/**
+ * Area of the decoration border that resizes the window.
+ * The cursor is looked up only when it is asked for, so the zones and the
+ * resize engine load without a toolkit.
+ * Create on  17/10/2026
+ * Version 1.0
+ */
+public enum ResizeZone {
+
+    NONE        (false, false, false, false),
+    TOP         (true,  false, false, false),
+    RIGHT       (false, true,  false, false),
+    BOTTOM      (false, false, true,  false),
+    LEFT        (false, false, false, true),
+    TOP_LEFT    (true,  false, false, true),
+    TOP_RIGHT   (true,  true,  false, false),
+    BOTTOM_LEFT (false, false, true,  true),
+    BOTTOM_RIGHT(false, true,  true,  false);
+
+    private static final ResizeZone[] BY_EDGES = new ResizeZone[16];
+
+    static {
+        for (ResizeZone zone : values()) {
+            BY_EDGES[zone.getEdges()] = zone;
+        }
+    }
+
+    private final boolean top;
+    private final boolean right;
+    private final boolean bottom;
+    private final boolean left;
+
+    ResizeZone(boolean top, boolean right, boolean bottom, boolean left) {
+        this.top    = top;
+        this.right  = right;
+        this.bottom = bottom;
+        this.left   = left;
+    }
+
+    /**
+     * @param edges Edges of the decoration, see {@link Edges}.
+     * @return The zone of the edges, {@link #NONE} if no zone has them.
+     */
+    public static ResizeZone of(int edges) {
+        ResizeZone zone = BY_EDGES[edges & 15];
+        return zone == null ? NONE : zone;
+    }
+
+    /**
+     * @return The edges moved by the zone, see {@link Edges}.
+     */
+    public int getEdges() {
+        return (top    ? Edges.TOP    : 0)
+             | (right  ? Edges.RIGHT  : 0)
+             | (bottom ? Edges.BOTTOM : 0)
+             | (left   ? Edges.LEFT   : 0);
+    }
+
+    public Cursor getCursor() {
+        switch (this) {
+            case TOP:          return Cursor.N_RESIZE;
+            case RIGHT:        return Cursor.E_RESIZE;
+            case BOTTOM:       return Cursor.S_RESIZE;
+            case LEFT:         return Cursor.W_RESIZE;
+            case TOP_LEFT:     return Cursor.NW_RESIZE;
+            case TOP_RIGHT:    return Cursor.NE_RESIZE;
+            case BOTTOM_LEFT:  return Cursor.SW_RESIZE;
+            case BOTTOM_RIGHT: return Cursor.SE_RESIZE;
+            default:           return Cursor.DEFAULT;
+        }
+    }
+
+    public boolean isTop() {
+        return top;
+    }
+
+    public boolean isRight() {
+        return right;
+    }
+
+    public boolean isBottom() {
+        return bottom;
+    }
+
+    public boolean isLeft() {
+        return left;
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) Gleidson Neves da Silveira
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.gn.decorator.resize;
+
+import javafx.animation.AnimationTimer;
+
+/**
+ * Runs an action once the window stopped changing for a quiet period.
+ * Each change only marks the window as changed, the pulses take the time
+ * and check it, so a gesture does not restart a transition on every event.
+ * While a gesture holds the timer the changes are only recorded, the action
+ * runs when the gesture ends with {@link #settle()}.
+ * Create on  17/10/2026
+ * Version 1.0
+ */
+public class SettleTimer extends AnimationTimer {
+
+    private final Runnable action;
+
+    private long quiet = 300_000_000L;
+    private long changed = 0;
+
+    private boolean running = false;
+    private boolean pending = false;
+    private boolean touched = false;
+    private boolean held    = false;
+
+    public SettleTimer(Runnable action) {
+        this.action = action;
+    }
+
+    /**
+     * Time without changes before the action runs.
+     * @param millis Quiet period in milliseconds.
+     */
+    public void setQuietPeriod(double millis) {
+        this.quiet = (long) (millis * 1_000_000D);
+    }
+
+    public double getQuietPeriod() {
+        return quiet / 1_000_000D;
+    }
+
+    /**
+     * Registers a change, the quiet period starts again.
+     */
+    public void touch() {
+        touched = true;
+        pending = true;
+        if (!running && !held) {
+            start();
+        }
+    }
+
+    /**
+     * Starts a gesture, the action waits for {@link #settle()} whatever the time without changes.
+     */
+    public void hold() {
+        held = true;
+        stop();
+    }
+
+    public boolean isHeld() {
+        return held;
+    }
+
+    /**
+     * Ends a gesture, runs the action now if a change is waiting.
+     */
+    public void settle() {
+        held = false;
+        touched = false;
+        if (pending) {
+            pending = false;
+            stop();
+            action.run();
+        }
+    }
+
+    public boolean isPending() {
+        return pending;
+    }
+
+    @Override
+    public void handle(long now) {
+        if (!pending || held) {
+            stop();
+        } else if (touched) {
+            // the quiet period counts from the first pulse after the change.
+            touched = false;
+            changed = now;
+        } else if (now - changed >= quiet) {
+            settle();
+        }
+    }
+
+    @Override
+    public void start() {
+        super.start();
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        super.stop();
+        running = false;
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (C) Gleidson Neves da Silveira
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.gn.decorator.screen;
+
+import com.gn.decorator.geometry.WindowGeometry;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.geometry.Rectangle2D;
+import javafx.stage.Screen;
+
+/**
+ * Visual bounds of the screens, shared by all decorations.
+ * The bounds are read once and read again when {@link Screen#getScreens()}
+ * changes, so the geometry code can ask which screen holds a window on every
+ * drag event without querying the toolkit or allocating.
+ * A moved taskbar or a new scale changes the bounds of a screen and not the
+ * list, the decorations call {@link #refresh()} when a gesture starts.
+ * Create on  17/10/2026
+ * Version 1.0
+ */
+public final class ScreenCache {
+
+    private static ScreenCache instance;
+
+    private Rectangle2D[] visualBounds = new Rectangle2D[0];
+    private int primary = 0;
+    private int version = 0;
+
+    private ScreenCache() {
+        ObservableList<Screen> screens = Screen.getScreens();
+        screens.addListener((ListChangeListener<Screen>) change -> update());
+        update();
+    }
+
+    /**
+     * @return The cache, must be called on the JavaFX application thread.
+     */
+    public static ScreenCache getInstance() {
+        if (instance == null) {
+            instance = new ScreenCache();
+        }
+        return instance;
+    }
+
+    /**
+     * Reads the visual bounds again, the version changes only if one of them changed.
+     */
+    public void refresh() {
+        ObservableList<Screen> screens = Screen.getScreens();
+        if (screens.size() != visualBounds.length) {
+            update();
+            return;
+        }
+        for (int i = 0; i < visualBounds.length; i++) {
+            if (!visualBounds[i].equals(screens.get(i).getVisualBounds())) {
+                update();
+                return;
+            }
+        }
+    }
+
+    private void update() {
+        ObservableList<Screen> screens = Screen.getScreens();
+        if (screens.isEmpty() && visualBounds.length > 0) {
+            // a reconfiguration can leave the list empty for a moment, the last bounds are kept.
+            return;
+        }
+        Screen primaryScreen = Screen.getPrimary();
+        Rectangle2D[] bounds = new Rectangle2D[screens.size()];
+
+        primary = 0;
+        for (int i = 0; i < bounds.length; i++) {
+            Screen screen = screens.get(i);
+            bounds[i] = screen.getVisualBounds();
+            if (screen.equals(primaryScreen)) {
+                primary = i;
+            }
+        }
+        visualBounds = bounds;
+        version++;
+    }
+
+    /**
+     * Finds the screen with the largest part of the rectangle, the primary
+     * screen when the rectangle is out of all of them.
+     * @return Index of the screen.
+     */
+    public int screenFor(double x, double y, double width, double height) {
+        int found = primary;
+        double area = 0;
+        for (int i = 0; i < visualBounds.length; i++) {
+            Rectangle2D bounds = visualBounds[i];
+            double overlap = WindowGeometry.overlap(x, y, width, height,
+                    bounds.getMinX(), bounds.getMinY(), bounds.getWidth(), bounds.getHeight());
+            if (overlap > area) {
+                area = overlap;
+                found = i;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Finds the screen that contains the point, the primary screen when none does.
+     * @return Index of the screen.
+     */
+    public int screenAt(double x, double y) {
+        for (int i = 0; i < visualBounds.length; i++) {
+            if (visualBounds[i].contains(x, y)) {
+                return i;
+            }
+        }
+        return primary;
+    }
+
+    public int getScreenCount() {
+        return visualBounds.length;
+    }
+
+    public int getPrimary() {
+        return primary;
+    }
+
+    /**
+     * @return Visual bounds of the screen, empty bounds when no screen is known.
+     */
+    public Rectangle2D getVisualBounds(int screen) {
+        if (screen < 0 || screen >= visualBounds.length) {
+            return visualBounds.length == 0 ? Rectangle2D.EMPTY : visualBounds[primary];
+        }
+        return visualBounds[screen];
+    }
+
+    public Rectangle2D getPrimaryVisualBounds() {
+        return getVisualBounds(primary);
+    }
+
+    /**
+     * @return Number that changes each time the screens change.
+     */
+    public int getVersion() {
+        return version;
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (C) Gleidson Neves da Silveira
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.gn.decorator.snap;
+
+import com.gn.decorator.geometry.EdgeIndex;
+import com.gn.decorator.screen.ScreenCache;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import javafx.beans.InvalidationListener;
+import javafx.geometry.Rectangle2D;
+import javafx.stage.Window;
+
+/**
+ * Edges of all live decorated windows and of the screens, kept in an
+ * {@link EdgeIndex} per axis. A window that is dragged looks for the edges
+ * near its own with a binary search, so each drag step costs O(log n) plus
+ * the few edges in reach.
+ * The index is rebuilt only when a window other than the dragged one moves.
+ * Create on  17/10/2026
+ * Version 1.0
+ */
+public final class SnapIndex {
+
+    private static SnapIndex instance;
+
+    private final Map<Window, InvalidationListener> windows = new IdentityHashMap<>();
+
+    private Window  active = null;
+    private boolean dirty = true;
+    private int     screensVersion = -1;
+
+    private final EdgeIndex vertical = new EdgeIndex();
+    private final EdgeIndex horizontal = new EdgeIndex();
+
+    private double x;
+    private double y;
+
+    private SnapIndex() {
+    }
+
+    /**
+     * @return The index shared by all decorations, must be called on the JavaFX application thread.
+     */
+    public static SnapIndex getInstance() {
+        if (instance == null) {
+            instance = new SnapIndex();
+        }
+        return instance;
+    }
+
+    public void add(Window window) {
+        if (windows.containsKey(window)) {
+            return;
+        }
+        InvalidationListener listener = observable -> {
+            if (window != active) {
+                dirty = true;
+            }
+        };
+        window.xProperty().addListener(listener);
+        window.yProperty().addListener(listener);
+        window.widthProperty().addListener(listener);
+        window.heightProperty().addListener(listener);
+        windows.put(window, listener);
+        dirty = true;
+    }
+
+    public void remove(Window window) {
+        InvalidationListener listener = windows.remove(window);
+        if (listener != null) {
+            window.xProperty().removeListener(listener);
+            window.yProperty().removeListener(listener);
+            window.widthProperty().removeListener(listener);
+            window.heightProperty().removeListener(listener);
+            dirty = true;
+        }
+        if (active == window) {
+            active = null;
+        }
+    }
+
+    /**
+     * Starts a drag, the edges of the window are left out until {@link #end()}.
+     * @param window Window dragged.
+     */
+    public void begin(Window window) {
+        if (active != window) {
+            active = window;
+            dirty = true;
+        }
+    }
+
+    public void end() {
+        if (active != null) {
+            active = null;
+            dirty = true;
+        }
+    }
+
+    /**
+     * Looks for the nearest edges in reach of the window edges.
+     * The result is read with {@link #getX()} and {@link #getY()}.
+     * @param x        Window x.
+     * @param y        Window y.
+     * @param width    Window width.
+     * @param height   Window height.
+     * @param distance Reach of the snap.
+     * @return true if one of the axes snapped.
+     */
+    public boolean snap(double x, double y, double width, double height, double distance) {
+        if (dirty || screensVersion != ScreenCache.getInstance().getVersion()) {
+            rebuild();
+        }
+
+        double deltaX = vertical.nearest(x, width, y, y + height, distance);
+        double deltaY = horizontal.nearest(y, height, x, x + width, distance);
+
+        this.x = Double.isNaN(deltaX) ? x : x + deltaX;
+        this.y = Double.isNaN(deltaY) ? y : y + deltaY;
+        return !Double.isNaN(deltaX) || !Double.isNaN(deltaY);
+    }
+
+    public double getX() {
+        return x;
+    }
+
+    public double getY() {
+        return y;
+    }
+
+    private void rebuild() {
+        vertical.clear();
+        horizontal.clear();
+
+        for (Window window : windows.keySet()) {
+            if (window == active || !window.isShowing()) {
+                continue;
+            }
+            addEdges(window.getX(), window.getY(),
+                    window.getX() + window.getWidth(), window.getY() + window.getHeight());
+        }
+
+        ScreenCache screens = ScreenCache.getInstance();
+        for (int i = 0; i < screens.getScreenCount(); i++) {
+            Rectangle2D bounds = screens.getVisualBounds(i);
+            addEdges(bounds.getMinX(), bounds.getMinY(), bounds.getMaxX(), bounds.getMaxY());
+        }
+
+        screensVersion = screens.getVersion();
+        dirty = false;
+    }
+
+    private void addEdges(double minX, double minY, double maxX, double maxY) {
+        vertical.add(minX, maxX, minY, maxY);
+        horizontal.add(minY, maxY, minX, maxX);
+    }
+}
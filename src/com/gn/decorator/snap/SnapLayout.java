@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) Gleidson Neves da Silveira
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.gn.decorator.snap;
+
+import com.gn.decorator.geometry.Edges;
+
+/**
+ * Part of the screen taken by a window dropped on an edge or a corner,
+ * as fractions of the visual bounds.
+ * Create on  17/10/2026
+ * Version 1.0
+ */
+public enum SnapLayout {
+
+    NONE        (0D,   0D,   0D,   0D),
+    LEFT        (0D,   0D,   0.5D, 1D),
+    RIGHT       (0.5D, 0D,   0.5D, 1D),
+    TOP_LEFT    (0D,   0D,   0.5D, 0.5D),
+    TOP_RIGHT   (0.5D, 0D,   0.5D, 0.5D),
+    BOTTOM_LEFT (0D,   0.5D, 0.5D, 0.5D),
+    BOTTOM_RIGHT(0.5D, 0.5D, 0.5D, 0.5D);
+
+    private final double x;
+    private final double y;
+    private final double width;
+    private final double height;
+
+    SnapLayout(double x, double y, double width, double height) {
+        this.x      = x;
+        this.y      = y;
+        this.width  = width;
+        this.height = height;
+    }
+
+    /**
+     * Layout offered for the edges under the pointer, the middle of the top
+     * and bottom edges has no layout.
+     * @param edges Edges of the screen, see {@link Edges}.
+     * @return The layout or {@link #NONE}.
+     */
+    public static SnapLayout of(int edges) {
+        switch (edges) {
+            case Edges.LEFT:
+                return LEFT;
+            case Edges.RIGHT:
+                return RIGHT;
+            case Edges.TOP | Edges.LEFT:
+                return TOP_LEFT;
+            case Edges.TOP | Edges.RIGHT:
+                return TOP_RIGHT;
+            case Edges.BOTTOM | Edges.LEFT:
+                return BOTTOM_LEFT;
+            case Edges.BOTTOM | Edges.RIGHT:
+                return BOTTOM_RIGHT;
+            default:
+                return NONE;
+        }
+    }
+
+    public double getX() {
+        return x;
+    }
+
+    public double getY() {
+        return y;
+    }
+
+    public double getWidth() {
+        return width;
+    }
+
+    public double getHeight() {
+        return height;
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) Gleidson Neves da Silveira
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.gn.decorator.snap;
+
+import com.gn.decorator.geometry.Box;
+import com.gn.decorator.geometry.Edges;
+import com.gn.decorator.geometry.WindowGeometry;
+import com.gn.decorator.screen.ScreenCache;
+import javafx.geometry.Rectangle2D;
+
+/**
+ * Half and quarter layouts of every screen, offered when a window is dragged
+ * to an edge or a corner.
+ * The layouts are computed from the visual bounds once and again only when
+ * the screens change, a drag event only compares the pointer with the edges.
+ * Create on  17/10/2026
+ * Version 1.0
+ */
+public final class SnapZones {
+
+    private static SnapZones instance;
+
+    private static final SnapLayout[] LAYOUTS = SnapLayout.values();
+
+    private final ScreenCache screens = ScreenCache.getInstance();
+
+    private Rectangle2D[][] layouts = new Rectangle2D[0][];
+    private int version = -1;
+
+    private double edge = 4D;
+    private double corner = 64D;
+
+    private SnapZones() {
+    }
+
+    /**
+     * @return The layouts shared by all decorations, must be called on the JavaFX application thread.
+     */
+    public static SnapZones getInstance() {
+        if (instance == null) {
+            instance = new SnapZones();
+        }
+        return instance;
+    }
+
+    /**
+     * Distance from the screen edge that offers a layout.
+     * @param edge Distance in pixels.
+     */
+    public void setEdge(double edge) {
+        this.edge = edge;
+    }
+
+    public double getEdge() {
+        return edge;
+    }
+
+    /**
+     * Length of the corners along each edge, where the quarters are offered.
+     * @param corner Length in pixels.
+     */
+    public void setCorner(double corner) {
+        this.corner = corner;
+    }
+
+    public double getCorner() {
+        return corner;
+    }
+
+    /**
+     * Finds the layout offered for the pointer.
+     * @param screen Index of the screen under the pointer.
+     * @param x      Pointer x on the screen.
+     * @param y      Pointer y on the screen.
+     * @return The layout or {@link SnapLayout#NONE}.
+     */
+    public SnapLayout layoutAt(int screen, double x, double y) {
+        Rectangle2D bounds = screens.getVisualBounds(screen);
+        return SnapLayout.of(Edges.hitTest(x - bounds.getMinX(), y - bounds.getMinY(),
+                bounds.getWidth(), bounds.getHeight(), edge, corner));
+    }
+
+    /**
+     * @param screen Index of the screen.
+     * @param layout Layout wanted.
+     * @return Bounds of the layout in the screen.
+     */
+    public Rectangle2D getBounds(int screen, SnapLayout layout) {
+        if (version != screens.getVersion()) {
+            update();
+        }
+        if (screen < 0 || screen >= layouts.length) {
+            return Rectangle2D.EMPTY;
+        }
+        return layouts[screen][layout.ordinal()];
+    }
+
+    private void update() {
+        Rectangle2D[][] computed = new Rectangle2D[screens.getScreenCount()][];
+        Box screen = new Box();
+        Box part = new Box();
+        for (int i = 0; i < computed.length; i++) {
+            Rectangle2D bounds = screens.getVisualBounds(i);
+            screen.set(bounds.getMinX(), bounds.getMinY(), bounds.getWidth(), bounds.getHeight());
+            computed[i] = new Rectangle2D[LAYOUTS.length];
+            for (SnapLayout layout : LAYOUTS) {
+                WindowGeometry.layout(screen, layout.getX(), layout.getY(), layout.getWidth(), layout.getHeight(), part);
+                computed[i][layout.ordinal()] = new Rectangle2D(part.getX(), part.getY(), part.getWidth(), part.getHeight());
+            }
+        }
+        layouts = computed;
+        version = screens.getVersion();
+    }
+}
@@ -16,17 +16,22 @@
  */
 package com.gn.prototype;
 
-import javafx.collections.ObservableList;
-import javafx.geometry.BoundingBox;
+import com.gn.decorator.geometry.Box;
+import com.gn.decorator.geometry.Edges;
+import com.gn.decorator.geometry.SizeConstraints;
+import com.gn.decorator.geometry.WindowGeometry;
+import com.gn.decorator.screen.ScreenCache;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.geometry.Rectangle2D;
 import javafx.scene.Cursor;
+import javafx.scene.Node;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
+import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.AnchorPane;
 import javafx.scene.layout.Background;
 import javafx.scene.layout.BackgroundFill;
@@ -41,7 +46,6 @@ import javafx.scene.shape.MoveTo;
 import javafx.scene.shape.Path;
 import javafx.scene.shape.SVGPath;
 import javafx.scene.shape.StrokeType;
-import javafx.stage.Screen;
 import javafx.stage.Stage;
 import javafx.stage.StageStyle;
 
@@ -117,14 +121,15 @@ public class GNWindowBar extends StackPane {
     private final ImageView viewClose       = new ImageView(new Image("img/close.png"));
     private final ImageView viewRestore     = new ImageView(new Image("img/restore.png"));
 
-    private static double initX = -1;
-    private static double initY = -1;
+    private double initX = -1;
+    private double initY = -1;
 
-    private static double       newX;
-    private static double       newY;
-    private final Rectangle2D   bounds;
+    private int                   edges       = Edges.NONE;
+    private final Box             start       = new Box();
+    private final Box             resized     = new Box();
+    private final SizeConstraints constraints = new SizeConstraints();
     
-    private BoundingBox savedBounds     = null;
+    private final Box   savedBounds     = new Box();
     private boolean     resizeInDrag    = true;
 
     /**
@@ -132,7 +137,6 @@ public class GNWindowBar extends StackPane {
      */
     public GNWindowBar() {
         super();
-        bounds = Screen.getPrimary().getVisualBounds();
         configStage();
         configLayout();
         addActions();
@@ -490,280 +494,11 @@ public class GNWindowBar extends StackPane {
         btn_maximize.setOnMouseClicked(event -> maximizeOrRestore());
         btn_minimize.setOnMouseClicked(event -> stage.setIconified(true));
         
-        right.setOnMousePressed(event -> {
-            if (event.isPrimaryButtonDown()) {
-                initX = event.getScreenX();
-                initY = event.getScreenY();
-                event.consume();
-            }
-        });
-
-        right.setOnMouseDragged(event -> {
-            if (!event.isPrimaryButtonDown() || (initX == -1 && initY == -1)) {
-                return;
-            }
-            if (getStage().isFullScreen()) {
-                return;
-            }
-            if (event.isStillSincePress()) {
-                return;
-            }
-
-            newX = event.getScreenX();
-            newY = event.getScreenY();
-            double deltax = newX - initX;
-            double deltay = newY - initY;
-
-            Cursor cursor = right.getCursor();
-
-            if (Cursor.E_RESIZE.equals(cursor)) {
-                setStageWidth(getStage(), getStage().getWidth() + deltax);
-                event.consume();
-            }
-        });
-
-        left.setOnMousePressed(event -> {
-            if (event.isPrimaryButtonDown()) {
-                initX = event.getScreenX();
-                initY = event.getScreenY();
-                event.consume();
-            }
-        });
-
-        left.setOnMouseDragged(event -> {
-            if (!event.isPrimaryButtonDown() || (initX == -1 && initY == -1)) {
-                return;
-            }
-            if (getStage().isFullScreen()) {
-                return;
-            }
-            if (event.isStillSincePress()) {
-                return;
-            }
-
-            newX = event.getScreenX();
-            newY = event.getScreenY();
-            double deltax = newX - initX;
-            double deltay = newY - initY;
-
-            Cursor cursor = left.getCursor();
-            if (Cursor.W_RESIZE.equals(cursor)) {
-                if (setStageWidth(getStage(), getStage().getWidth() - deltax)) {
-                    getStage().setX(getStage().getX() + deltax);
-                }
-                event.consume();
-            }
-        });
-
-        top.setOnMousePressed(event -> {
-            if (event.isPrimaryButtonDown()) {
-                initX = event.getScreenX();
-                initY = event.getScreenY();
-                event.consume();
-            }
-        });
-
-        top.setOnMouseDragged(event -> {
-            if (!event.isPrimaryButtonDown() || (initX == -1 && initY == -1)) {
-                return;
-            }
-
-            if (getStage().isFullScreen()) {
-                return;
-            }
-            if (event.isStillSincePress()) {
-                return;
-            }
-
-            newX = event.getScreenX();
-            newY = event.getScreenY();
-            double deltax = newX - initX;
-            double deltay = newY - initY;
-            Cursor cursor = top.getCursor();
-            if (Cursor.N_RESIZE.equals(cursor)) {
-                if (setStageHeight(getStage(), getStage().getHeight() - deltay)) {
-                    setStageY(getStage(), getStage().getY() + deltay);
-                }
-                event.consume();
-            }
-        });
-
-        bottom.setOnMousePressed(event -> {
-            if (event.isPrimaryButtonDown()) {
-                initX = event.getScreenX();
-                initY = event.getScreenY();
-                event.consume();
-            }
-        });
-
-        bottom.setOnMouseDragged(event -> {
-            if (!event.isPrimaryButtonDown() || (initX == -1 && initY == -1)) {
-                return;
-            }
-            if (getStage().isFullScreen()) {
-                return;
-            }
-            if (event.isStillSincePress()) {
-                return;
-            }
-
-            newX = event.getScreenX();
-            newY = event.getScreenY();
-            double deltax = newX - initX;
-            double deltay = newY - initY;
-
-            Cursor cursor = bottom.getCursor();
-            if (Cursor.S_RESIZE.equals(cursor)) {
-                setStageHeight(getStage(), getStage().getHeight() + deltay);
-                event.consume();
-            }
-        });
-
-        top_right.setOnMousePressed(event -> {
-            if (event.isPrimaryButtonDown()) {
-                initX = event.getScreenX();
-                initY = event.getScreenY();
-                event.consume();
-
-            }
-        });
-
-        top_right.setOnMouseDragged(event -> {
-            if (!event.isPrimaryButtonDown() || (initX == -1 && initY == -1)) {
-                return;
-            }
-
-            if (getStage().isFullScreen()) {
-                return;
-            }
-
-            if (event.isStillSincePress()) {
-                return;
-            }
-
-            newX = event.getScreenX();
-            newY = event.getScreenY();
-            double deltax = newX - initX;
-            double deltay = newY - initY;
-
-            Cursor cursor = top_right.getCursor();
-
-            if (Cursor.NE_RESIZE.equals(cursor)) {
-                if (setStageHeight(getStage(), getStage().getHeight() - deltay)) {
-                    setStageY(getStage(), getStage().getY() + deltay);
-                }
-                setStageWidth(getStage(), getStage().getWidth() + deltax);
-                event.consume();
-            }
-        });
-
-        top_left.setOnMousePressed(event -> {
-            if (event.isPrimaryButtonDown()) {
-                initX = event.getScreenX();
-                initY = event.getScreenY();
-                event.consume();
-            }
-        });
-
-        top_left.setOnMouseDragged(event -> {
-            if (!event.isPrimaryButtonDown() || (initX == -1 && initY == -1)) {
-                return;
-            }
-            if (getStage().isFullScreen()) {
-                return;
-            }
-            if (event.isStillSincePress()) {
-                return;
-            }
-
-            newX = event.getScreenX();
-            newY = event.getScreenY();
-            double deltax = newX - initX;
-            double deltay = newY - initY;
-
-            Cursor cursor = top_left.getCursor();
-
-            if (Cursor.NW_RESIZE.equals(cursor)) {
-                if (setStageWidth(getStage(), getStage().getWidth() - deltax)) {
-                    getStage().setX(getStage().getX() + deltax);
-                }
-                if (setStageHeight(getStage(), getStage().getHeight() - deltay)) {
-                    setStageY(getStage(), getStage().getY() + deltay);
-                }
-                event.consume();
-            }
-        });
-
-        bottom_right.setOnMousePressed(event -> {
-            if (event.isPrimaryButtonDown()) {
-                initX = event.getScreenX();
-                initY = event.getScreenY();
-                event.consume();
-            }
-        });
-
-        bottom_right.setOnMouseDragged(event -> {
-            if (!event.isPrimaryButtonDown() || (initX == -1 && initY == -1)) {
-                return;
-            }
-
-            if (getStage().isFullScreen()) {
-                return;
-            }
-            if (event.isStillSincePress()) {
-                return;
-            }
-
-            newX = event.getScreenX();
-            newY = event.getScreenY();
-            double deltax = newX - initX;
-            double deltay = newY - initY;
-
-            Cursor cursor = bottom_right.getCursor();
-
-            if (Cursor.SE_RESIZE.equals(cursor)) {
-                setStageWidth(getStage(), getStage().getWidth() + deltax);
-                setStageHeight(getStage(), getStage().getHeight() + deltay);
-                event.consume();
-            }
-        });
-
-        bottom_left.setOnMousePressed(event -> {
-            if (event.isPrimaryButtonDown()) {
-                initX = event.getScreenX();
-                initY = event.getScreenY();
-                event.consume();
-            }
-        });
-
-        bottom_left.setOnMouseDragged(event -> {
-            if (!event.isPrimaryButtonDown() || (initX == -1 && initY == -1)) {
-                return;
-            }
-            if (getStage().isFullScreen()) {
-                return;
-            }
-            if (event.isStillSincePress()) {
-                return;
-            }
-
-            newX = event.getScreenX();
-            newY = event.getScreenY();
-            double deltax = newX - initX;
-            double deltay = newY - initY;
-
-            Cursor cursor = bottom_left.getCursor();
+        for (Node zone : new Node[]{top, right, bottom, left, top_left, top_right, bottom_left, bottom_right}) {
+            zone.setOnMousePressed(this::resizePressed);
+            zone.setOnMouseDragged(this::resizeDragged);
+        }
 
-            if (Cursor.SW_RESIZE.equals(cursor)) {
-                if (setStageWidth(getStage(), getStage().getWidth() - deltax)) {
-                    getStage().setX(getStage().getX() + deltax);
-                }
-                setStageHeight(getStage(), getStage().getHeight() + deltay);
-                event.consume();
-            }
-        });
-        
-            
         bar.setOnMousePressed(event -> {
             initX = event.getSceneX();
             initY = event.getSceneY();
@@ -785,7 +520,7 @@ public class GNWindowBar extends StackPane {
         
         bar.setOnDragDetected(e -> {
             if (resizeInDrag) {
-                savedBounds = new BoundingBox(stage.getX() - 20, stage.getY() + 20,
+                savedBounds.set(stage.getX() - 20, stage.getY() + 20,
                         stage.getWidth() - 100, stage.getHeight() - 10);
                 restoreSavedBounds(stage);
             }
@@ -813,10 +548,11 @@ public class GNWindowBar extends StackPane {
      * @return true if it is, if not false.
      */
     public boolean isMaximized() {
-        return stage.getWidth() == Screen.getPrimary().getVisualBounds().getWidth()
-                && stage.getHeight() == Screen.getPrimary().getVisualBounds().getHeight()
-                && stage.getX() == Screen.getPrimary().getVisualBounds().getMinX()
-                && stage.getY() == Screen.getPrimary().getVisualBounds().getMinY();
+        Rectangle2D bounds = ScreenCache.getInstance().getPrimaryVisualBounds();
+        return stage.getWidth() == bounds.getWidth()
+                && stage.getHeight() == bounds.getHeight()
+                && stage.getX() == bounds.getMinX()
+                && stage.getY() == bounds.getMinY();
     }
 
     /**
@@ -841,7 +577,9 @@ public class GNWindowBar extends StackPane {
      * Maximiza a decoração | Maximize decoration.
      */
     public void maximize() {
-        savedBounds = new BoundingBox(stage.getX(), stage.getY(), stage.getWidth(), stage.getHeight());
+        savedBounds.set(stage.getX(), stage.getY(), stage.getWidth(), stage.getHeight());
+
+        Rectangle2D bounds = ScreenCache.getInstance().getPrimaryVisualBounds();
 
         this.stage.setX(bounds.getMinX());
         stage.setY(bounds.getMinY());
@@ -876,73 +614,82 @@ public class GNWindowBar extends StackPane {
      * @param stage Stage for restore.
      */
     private void restoreSavedBounds(Stage stage) {
-        stage.setX(savedBounds.getMinX());
-        stage.setY(savedBounds.getMinY());
+        if (savedBounds.isEmpty()) {
+            return;
+        }
+        stage.setX(savedBounds.getX());
+        stage.setY(savedBounds.getY());
         stage.setWidth(savedBounds.getWidth());
         stage.setHeight(savedBounds.getHeight());
-        savedBounds = null;
+        savedBounds.clear();
     }
     
     /**
-     * Configura nova posição do eixo y durante o evento | Sets new y-axis
-     * position during the event.
-     *
-     * @param stage Stage for change.
-     * @param y Axis y of stage.
+     * Inicia o redimensionamento | Starts a resize, the edges are found from
+     * the pointer position with the same hit test as the decoration.
+     * @param event Press on one of the bars or axes.
      */
-    private void setStageY(Stage stage, double y) {
-        try {
-            ObservableList<Screen> screensForRectangle = Screen.getScreensForRectangle(stage.getX(), stage.getY(), stage.getWidth(), stage.getHeight());
-            if (screensForRectangle.size() > 0) {
-                Screen screen = screensForRectangle.get(0);
-                Rectangle2D visualBounds = screen.getVisualBounds();
-                if (y < visualBounds.getHeight()) {
-                    stage.setY(y);
-                }
-            }
-        } catch (Exception e) {
-            System.err.println(e);
+    private void resizePressed(MouseEvent event) {
+        if (!event.isPrimaryButtonDown()) {
+            return;
         }
+        Cursor cursor = ((Node) event.getSource()).getCursor();
+        edges = cursor == null || Cursor.DEFAULT.equals(cursor) ? Edges.NONE
+                : Edges.hitTest(event.getSceneX(), event.getSceneY(), scene.getWidth(), scene.getHeight(), 3D, 22D);
+        initX = event.getScreenX();
+        initY = event.getScreenY();
+        start.set(stage.getX(), stage.getY(), stage.getWidth(), stage.getHeight());
+        constraints.setMinimum(stage.getMinWidth(), stage.getMinHeight());
+        constraints.setMaximum(stage.getMaxWidth(), stage.getMaxHeight());
+        event.consume();
     }
 
     /**
-     * Redimensiona a largura do palco retornando verdadeiro se a ação for
-     * efetivada e falso se não for | Resize the Stage Width by Returning to an
-     * Action made and false if it is not..
-     *
-     * @param stage Stage to change the width.
-     * @param width New width.
-     * @return Verdadeiro se a largura for maior ou igual a largura minima |
-     * True if the width is greater than or equal to the minimum width.
-     * permitida.
+     * Redimensiona a partir dos bounds do inicio | Resizes from the bounds
+     * captured on press, computed by the geometry core.
+     * @param event Drag of one of the bars or axes.
      */
-    private boolean setStageWidth(Stage stage, double width) {
-        if (width >= stage.getMinWidth()) { // se a largura for maior ou igual a largura minima permitida.
-            stage.setWidth(width); // altera a largura do stage.
-            initX = newX; // o valor inicial do eixo x agora é o valor do novo eixo x gerado no evento.
-            return true;
+    private void resizeDragged(MouseEvent event) {
+        if (!event.isPrimaryButtonDown() || edges == Edges.NONE) {
+            return;
+        }
+        if (getStage().isFullScreen()) {
+            return;
+        }
+        if (event.isStillSincePress()) {
+            return;
+        }
+        WindowGeometry.resize(edges, start, event.getScreenX() - initX, event.getScreenY() - initY,
+                constraints, resized);
+        // only the values that changed, a drag along one edge keeps the others.
+        if (resized.getX() != stage.getX()) {
+            stage.setX(resized.getX());
+        }
+        if (resized.getY() != stage.getY()) {
+            setStageY(stage, resized.getY());
         }
-        return false;
+        if (resized.getWidth() != stage.getWidth()) {
+            stage.setWidth(resized.getWidth());
+        }
+        if (resized.getHeight() != stage.getHeight()) {
+            stage.setHeight(resized.getHeight());
+        }
+        event.consume();
     }
 
     /**
-     * Redimensiona o comprimento do palco retornando verdadeiro se a ação for
-     * efetivada e falso se não for | Resizes the stage length by returning true
-     * if the action is   made and false if it is not..
+     * Configura nova posição do eixo y durante o evento | Sets new y-axis
+     * position during the event.
      *
-     * @param stage Stage to change length.
-     * @param height New height.
-     * @return verdadeiro se o comprimento for maior ou igual o comprimento
-     * minimo permitido | true if the length is greater than or equal to the
-     * length   minimum allowed..
+     * @param stage Stage for change.
+     * @param y Axis y of stage.
      */
-    private boolean setStageHeight(Stage stage, double height) {
-        if (height >= stage.getMinHeight()) { // se o comprimento for maior ou igual o comprimento minimo permitido.
-            stage.setHeight(height); // altera o comprimento do stage.
-            initY = newY; // o valor inicial do eixo y agora é o valor do novo eixo y gerado no evento.
-            return true;
+    private void setStageY(Stage stage, double y) {
+        ScreenCache screens = ScreenCache.getInstance();
+        Rectangle2D visualBounds = screens.getVisualBounds(screens.screenFor(stage.getX(), stage.getY(), stage.getWidth(), stage.getHeight()));
+        if (WindowGeometry.isAbove(y, visualBounds.getMaxY())) {
+            stage.setY(y);
         }
-        return false;
     }
 
     private void configCursor(boolean resizable) {
@@ -16,10 +16,14 @@
  */
 package com.gn.prototype;
 
+import com.gn.decorator.geometry.Box;
+import com.gn.decorator.geometry.Edges;
+import com.gn.decorator.geometry.SizeConstraints;
+import com.gn.decorator.geometry.WindowGeometry;
+import com.gn.decorator.screen.ScreenCache;
 import java.io.IOException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import javafx.collections.ObservableList;
 import javafx.fxml.FXMLLoader;
 import javafx.geometry.Insets;
 import javafx.geometry.Rectangle2D;
@@ -27,6 +31,7 @@ import javafx.scene.Cursor;
 import javafx.scene.Node;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
+import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.AnchorPane;
 import javafx.scene.layout.Background;
 import javafx.scene.layout.BackgroundFill;
@@ -39,7 +44,6 @@ import javafx.scene.shape.LineTo;
 import javafx.scene.shape.MoveTo;
 import javafx.scene.shape.Path;
 import javafx.scene.shape.StrokeType;
-import javafx.stage.Screen;
 import javafx.stage.Stage;
 import javafx.stage.StageStyle;
 
@@ -92,11 +96,13 @@ public class GNWindowProto extends StackPane {
     private final AnchorPane top    = new AnchorPane();
     private final AnchorPane bottom = new AnchorPane();
 
-    private static double initX = -1;
-    private static double initY = -1;
+    private double initX = -1;
+    private double initY = -1;
 
-    private static double newX;
-    private static double newY;
+    private int                   edges       = Edges.NONE;
+    private final Box             start       = new Box();
+    private final Box             resized     = new Box();
+    private final SizeConstraints constraints = new SizeConstraints();
     
     VBox node = new VBox();
     
@@ -330,352 +336,78 @@ public class GNWindowProto extends StackPane {
      */
     private void addActions() {
 
-        right.setOnMousePressed(event -> {
-            if (event.isPrimaryButtonDown()) {
-                initX = event.getScreenX();
-                initY = event.getScreenY();
-                event.consume();
-            }
-        });
-
-        right.setOnMouseDragged(event -> {
-            if (!event.isPrimaryButtonDown() || (initX == -1 && initY == -1)) {
-                return;
-            }
-            if (getStage().isFullScreen()) {
-                return;
-            }
-            // Long press generates drag event!
-            if (event.isStillSincePress()) {
-                return;
-            }
-
-            newX = event.getScreenX();
-            newY = event.getScreenY();
-            double deltax = newX - initX;
-            double deltay = newY - initY;
-
-            Cursor cursor = right.getCursor();
-
-            if (Cursor.E_RESIZE.equals(cursor)) {
-                setStageWidth(getStage(), getStage().getWidth() + deltax);
-                event.consume();
-            }
-        });
-
-        left.setOnMousePressed(event -> {
-            if (event.isPrimaryButtonDown()) {
-                initX = event.getScreenX();
-                initY = event.getScreenY();
-                event.consume();
-            }
-        });
-
-        left.setOnMouseDragged(event -> {
-            if (!event.isPrimaryButtonDown() || (initX == -1 && initY == -1)) {
-                return;
-            }
-            if (getStage().isFullScreen()) {
-                return;
-            }
-            if (event.isStillSincePress()) {
-                return;
-            }
-
-            newX = event.getScreenX();
-            newY = event.getScreenY();
-            double deltax = newX - initX;
-            double deltay = newY - initY;
-
-            Cursor cursor = left.getCursor();
-            if (Cursor.W_RESIZE.equals(cursor)) {
-                if (setStageWidth(getStage(), getStage().getWidth() - deltax)) {
-                    getStage().setX(getStage().getX() + deltax);
-                }
-                event.consume();
-            }
-        });
-
-        top.setOnMousePressed(event -> {
-            if (event.isPrimaryButtonDown()) {
-                initX = event.getScreenX();
-                initY = event.getScreenY();
-                event.consume();
-            }
-        });
-
-        top.setOnMouseDragged(event -> {
-            if (!event.isPrimaryButtonDown() || (initX == -1 && initY == -1)) {
-                return;
-            }
-
-            if (getStage().isFullScreen()) {
-                return;
-            }
-
-            if (event.isStillSincePress()) {
-                return;
-            }
-
-            newX = event.getScreenX();
-            newY = event.getScreenY();
-            double deltax = newX - initX;
-            double deltay = newY - initY;
-            Cursor cursor = top.getCursor();
-            if (Cursor.N_RESIZE.equals(cursor)) {
-                if (setStageHeight(getStage(), getStage().getHeight() - deltay)) {
-                    setStageY(getStage(), getStage().getY() + deltay);
-                }
-                event.consume();
-            }
-        });
-
-        bottom.setOnMousePressed(event -> {
-            if (event.isPrimaryButtonDown()) {
-                initX = event.getScreenX();
-                initY = event.getScreenY();
-                event.consume();
-            }
-        });
-
-        bottom.setOnMouseDragged(event -> {
-            if (!event.isPrimaryButtonDown() || (initX == -1 && initY == -1)) {
-                return;
-            }
-
-            if (getStage().isFullScreen()) {
-                return;
-            }
-
-            if (event.isStillSincePress()) {
-                return;
-            }
-
-            newX = event.getScreenX();
-            newY = event.getScreenY();
-            double deltax = newX - initX;
-            double deltay = newY - initY;
-
-            Cursor cursor = bottom.getCursor();
-            if (Cursor.S_RESIZE.equals(cursor)) {
-                setStageHeight(getStage(), getStage().getHeight() + deltay);
-                event.consume();
-            }
-        });
-
-        top_right.setOnMousePressed(event -> {
-            if (event.isPrimaryButtonDown()) {
-                initX = event.getScreenX();
-                initY = event.getScreenY();
-                event.consume();
-
-            }
-        });
-
-        top_right.setOnMouseDragged(event -> {
-            if (!event.isPrimaryButtonDown() || (initX == -1 && initY == -1)) {
-                return;
-            }
-
-            if (getStage().isFullScreen()) {
-                return;
-            }
-
-            // Long press generates drag event!
-            if (event.isStillSincePress()) {
-                return;
-            }
-
-            newX = event.getScreenX();
-            newY = event.getScreenY();
-            double deltax = newX - initX;
-            double deltay = newY - initY;
-
-            Cursor cursor = top_right.getCursor();
-
-            if (Cursor.NE_RESIZE.equals(cursor)) {
-                if (setStageHeight(getStage(), getStage().getHeight() - deltay)) {
-                    setStageY(getStage(), getStage().getY() + deltay);
-                }
-                setStageWidth(getStage(), getStage().getWidth() + deltax);
-                event.consume();
-            }
-        });
-
-        top_left.setOnMousePressed(event -> {
-            if (event.isPrimaryButtonDown()) {
-                initX = event.getScreenX();
-                initY = event.getScreenY();
-                event.consume();
-            }
-        });
-
-        top_left.setOnMouseDragged(event -> {
-            if (!event.isPrimaryButtonDown() || (initX == -1 && initY == -1)) {
-                return;
-            }
-            
-            if (getStage().isFullScreen()) {
-                return;
-            }
- 
-            if (event.isStillSincePress()) {
-                return;
-            }
-
-            newX = event.getScreenX();
-            newY = event.getScreenY();
-            double deltax = newX - initX;
-            double deltay = newY - initY;
-
-            Cursor cursor = top_left.getCursor();
-
-            if (Cursor.NW_RESIZE.equals(cursor)) {
-                if (setStageWidth(getStage(), getStage().getWidth() - deltax)) {
-                    getStage().setX(getStage().getX() + deltax);
-                }
-                if (setStageHeight(getStage(), getStage().getHeight() - deltay)) {
-                    setStageY(getStage(), getStage().getY() + deltay);
-                }
-                event.consume();
-            }
-        });
-
-        bottom_right.setOnMousePressed(event -> {
-            if (event.isPrimaryButtonDown()) {
-                initX = event.getScreenX();
-                initY = event.getScreenY();
-                event.consume();
-            }
-        });
-
-        bottom_right.setOnMouseDragged(event -> {
-            if (!event.isPrimaryButtonDown() || (initX == -1 && initY == -1)) {
-                return;
-            }
-
-            if (getStage().isFullScreen()) {
-                return;
-            }
-            
-           // Long press generates drag event!
-            if (event.isStillSincePress()) {
-                return;
-            }
-
-            newX = event.getScreenX();
-            newY = event.getScreenY();
-            double deltax = newX - initX;
-            double deltay = newY - initY;
-
-            Cursor cursor = bottom_right.getCursor();
-
-            if (Cursor.SE_RESIZE.equals(cursor)) {
-                setStageWidth(getStage(), getStage().getWidth() + deltax);
-                setStageHeight(getStage(), getStage().getHeight() + deltay);
-                event.consume();
-            }
-        });
-
-        bottom_left.setOnMousePressed(event -> {
-            if (event.isPrimaryButtonDown()) {
-                initX = event.getScreenX();
-                initY = event.getScreenY();
-                event.consume();
-            }
-        });
-
-        bottom_left.setOnMouseDragged(event -> {
-            if (!event.isPrimaryButtonDown() || (initX == -1 && initY == -1)) {
-                return;
-            }
-            if (getStage().isFullScreen()) {
-                return;
-            }
-            /*
-         * Long press generates drag event!
-             */
-            if (event.isStillSincePress()) {
-                return;
-            }
-
-            newX = event.getScreenX();
-            newY = event.getScreenY();
-            double deltax = newX - initX;
-            double deltay = newY - initY;
-
-            Cursor cursor = bottom_left.getCursor();
-
-            if (Cursor.SW_RESIZE.equals(cursor)) {
-                if (setStageWidth(getStage(), getStage().getWidth() - deltax)) {
-                    getStage().setX(getStage().getX() + deltax);
-                }
-                setStageHeight(getStage(), getStage().getHeight() + deltay);
-                event.consume();
-            }
-        });
+        for (Node zone : new Node[]{top, right, bottom, left, top_left, top_right, bottom_left, bottom_right}) {
+            zone.setOnMousePressed(this::resizePressed);
+            zone.setOnMouseDragged(this::resizeDragged);
+        }
     }
 
     /**
-     * Configura nova posição do eixo y durante o evento | Sets new y-axis
-     * position during the event.
-     *
-     * @param stage Stage for change.
-     * @param y Axis y of stage.
+     * Inicia o redimensionamento | Starts a resize, the edges are found from
+     * the pointer position with the same hit test as the decoration.
+     * @param event Press on one of the bars or axes.
      */
-    private void setStageY(Stage stage, double y) {
-        try {
-            ObservableList<Screen> screensForRectangle = Screen.getScreensForRectangle(stage.getX(), stage.getY(), stage.getWidth(), stage.getHeight());
-            if (screensForRectangle.size() > 0) {
-                Screen screen = screensForRectangle.get(0);
-                Rectangle2D visualBounds = screen.getVisualBounds();
-                if (y < visualBounds.getHeight()) {
-                    stage.setY(y);
-                }
-            }
-        } catch (Exception e) {
-            System.err.println(e);
+    private void resizePressed(MouseEvent event) {
+        if (!event.isPrimaryButtonDown()) {
+            return;
         }
+        Cursor cursor = ((Node) event.getSource()).getCursor();
+        edges = cursor == null || Cursor.DEFAULT.equals(cursor) ? Edges.NONE
+                : Edges.hitTest(event.getSceneX(), event.getSceneY(), scene.getWidth(), scene.getHeight(), 3D, 22D);
+        initX = event.getScreenX();
+        initY = event.getScreenY();
+        start.set(stage.getX(), stage.getY(), stage.getWidth(), stage.getHeight());
+        constraints.setMinimum(stage.getMinWidth(), stage.getMinHeight());
+        constraints.setMaximum(stage.getMaxWidth(), stage.getMaxHeight());
+        event.consume();
     }
 
     /**
-     * Redimensiona a largura do palco retornando verdadeiro se a ação for
-     * efetivada e falso se não for | Resize the Stage Width by Returning to an
-     * Action made and false if it is not..
-     *
-     * @param stage Stage to change the width.
-     * @param width New width.
-     * @return Verdadeiro se a largura for maior ou igual a largura minima |
-     * True if the width is greater than or equal to the minimum width.
-     * permitida.
+     * Redimensiona a partir dos bounds do inicio | Resizes from the bounds
+     * captured on press, computed by the geometry core.
+     * @param event Drag of one of the bars or axes.
      */
-    private boolean setStageWidth(Stage stage, double width) {
-        if (width >= stage.getMinWidth()) { // se a largura for maior ou igual a largura minima permitida.
-            stage.setWidth(width); // altera a largura do stage.
-            initX = newX; // o valor inicial do eixo x agora é o valor do novo eixo x gerado no evento.
-            return true;
+    private void resizeDragged(MouseEvent event) {
+        if (!event.isPrimaryButtonDown() || edges == Edges.NONE) {
+            return;
+        }
+        if (getStage().isFullScreen()) {
+            return;
+        }
+        if (event.isStillSincePress()) {
+            return;
+        }
+        WindowGeometry.resize(edges, start, event.getScreenX() - initX, event.getScreenY() - initY,
+                constraints, resized);
+        // only the values that changed, a drag along one edge keeps the others.
+        if (resized.getX() != stage.getX()) {
+            stage.setX(resized.getX());
+        }
+        if (resized.getY() != stage.getY()) {
+            setStageY(stage, resized.getY());
         }
-        return false;
+        if (resized.getWidth() != stage.getWidth()) {
+            stage.setWidth(resized.getWidth());
+        }
+        if (resized.getHeight() != stage.getHeight()) {
+            stage.setHeight(resized.getHeight());
+        }
+        event.consume();
     }
 
     /**
-     * Redimensiona o comprimento do palco retornando verdadeiro se a ação for
-     * efetivada e falso se não for | Resizes the stage length by returning true
-     * if the action is   made and false if it is not..
+     * Configura nova posição do eixo y durante o evento | Sets new y-axis
+     * position during the event.
      *
-     * @param stage Stage to change length.
-     * @param height New height.
-     * @return verdadeiro se o comprimento for maior ou igual o comprimento
-     * minimo permitido | true if the length is greater than or equal to the
-     * length   minimum allowed..
+     * @param stage Stage for change.
+     * @param y Axis y of stage.
      */
-    private boolean setStageHeight(Stage stage, double height) {
-        if (height >= stage.getMinHeight()) { // se o comprimento for maior ou igual o comprimento minimo permitido.
-            stage.setHeight(height); // altera o comprimento do stage.
-            initY = newY; // o valor inicial do eixo y agora é o valor do novo eixo y gerado no evento.
-            return true;
+    private void setStageY(Stage stage, double y) {
+        ScreenCache screens = ScreenCache.getInstance();
+        Rectangle2D visualBounds = screens.getVisualBounds(screens.screenFor(stage.getX(), stage.getY(), stage.getWidth(), stage.getHeight()));
+        if (WindowGeometry.isAbove(y, visualBounds.getMaxY())) {
+            stage.setY(y);
         }
-        return false;
     }
 
     /**
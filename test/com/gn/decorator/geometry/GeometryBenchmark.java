@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) Gleidson Neves da Silveira
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.gn.decorator.geometry;
+
+/**
+ * Throughput of the geometry core, run with no display.
+ * Times the resize computation, the edge hit test and the snap lookup over
+ * simulated pointer events and prints the nanoseconds per call.
+ * Run with {@code java com.gn.decorator.geometry.GeometryBenchmark}.
+ * Create on  17/10/2026
+ * Version 1.0
+ */
+public final class GeometryBenchmark {
+
+    private static final int WARMUP = 2_000_000;
+    private static final int CALLS = 10_000_000;
+
+    private static double sink;
+
+    private GeometryBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        Box start = new Box(100, 100, 800, 600);
+        Box out = new Box();
+        SizeConstraints constraints = new SizeConstraints();
+        constraints.setMinimum(254, 57);
+        constraints.setMaximum(1920, 1080);
+        constraints.setAspectRatio(16D / 9D);
+
+        EdgeIndex index = new EdgeIndex();
+        for (int i = 0; i < 64; i++) {
+            index.add(i * 97D, i * 97D + 640, i * 13D, i * 13D + 480);
+        }
+
+        measure("WindowGeometry.resize", start, out, constraints, index, 0);
+        measure("Edges.hitTest", start, out, constraints, index, 1);
+        measure("EdgeIndex.nearest, 64 windows", start, out, constraints, index, 2);
+        System.out.println(sink);
+    }
+
+    private static void measure(String name, Box start, Box out, SizeConstraints constraints,
+                                EdgeIndex index, int path) {
+        run(start, out, constraints, index, path, WARMUP);
+        long before = System.nanoTime();
+        run(start, out, constraints, index, path, CALLS);
+        double perCall = (System.nanoTime() - before) / (double) CALLS;
+        System.out.println(name + ": " + String.format("%.1f", perCall) + " ns per call");
+    }
+
+    private static void run(Box start, Box out, SizeConstraints constraints, EdgeIndex index,
+                            int path, int calls) {
+        double total = 0;
+        for (int i = 0; i < calls; i++) {
+            double dx = (i % 400) - 200;
+            double dy = (i % 300) - 150;
+            switch (path) {
+                case 0:
+                    WindowGeometry.resize(Edges.BOTTOM | Edges.RIGHT, start, dx, dy, constraints, out);
+                    total += out.getWidth();
+                    break;
+                case 1:
+                    total += Edges.hitTest(dx + 200, dy + 150, 400, 300, 3, 22);
+                    break;
+                default:
+                    double delta = index.nearest(dx * 10, 640, dy, dy + 480, 10);
+                    total += Double.isNaN(delta) ? 0 : delta;
+                    break;
+            }
+        }
+        sink += total;
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (C) Gleidson Neves da Silveira
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.gn.decorator.geometry;
+
+/**
+ * Checks of the geometry core, run with no display.
+ * Run with {@code java com.gn.decorator.geometry.GeometryCheck}, it fails
+ * on the first wrong result.
+ * Create on  17/10/2026
+ * Version 1.0
+ */
+public final class GeometryCheck {
+
+    private static int checks;
+
+    private GeometryCheck() {
+    }
+
+    public static void main(String[] args) {
+        resizeFree();
+        resizeLimits();
+        resizeSteps();
+        resizeRatio();
+        hitTest();
+        restoreX();
+        edgeIndex();
+        System.out.println(checks + " checks passed");
+    }
+
+    private static void resizeFree() {
+        Box start = new Box(100, 100, 800, 600);
+        Box out = new Box();
+        SizeConstraints free = new SizeConstraints();
+
+        WindowGeometry.resize(Edges.BOTTOM | Edges.RIGHT, start, 50, 30, free, out);
+        check("bottom right", out, 100, 100, 850, 630);
+
+        // left and top keep the opposite edges in place.
+        WindowGeometry.resize(Edges.TOP | Edges.LEFT, start, 50, 30, free, out);
+        check("top left", out, 150, 130, 750, 570);
+
+        WindowGeometry.resize(Edges.RIGHT, start, 50, 30, free, out);
+        check("right only", out, 100, 100, 850, 600);
+    }
+
+    private static void resizeLimits() {
+        Box start = new Box(100, 100, 800, 600);
+        Box out = new Box();
+        SizeConstraints limits = new SizeConstraints();
+        limits.setMinimum(300, 200);
+        limits.setMaximum(1000, 700);
+
+        WindowGeometry.resize(Edges.BOTTOM | Edges.RIGHT, start, 500, 500, limits, out);
+        check("max", out, 100, 100, 1000, 700);
+
+        WindowGeometry.resize(Edges.TOP | Edges.LEFT, start, 700, 700, limits, out);
+        check("min from the top left", out, 600, 500, 300, 200);
+    }
+
+    private static void resizeSteps() {
+        Box start = new Box(0, 0, 100, 100);
+        Box out = new Box();
+        SizeConstraints grid = new SizeConstraints();
+        grid.setBase(20, 30);
+        grid.setStep(8, 16);
+
+        WindowGeometry.resize(Edges.BOTTOM | Edges.RIGHT, start, 3, -3, grid, out);
+        check("steps", out, 0, 0, 100, 94);
+
+        WindowGeometry.resize(Edges.BOTTOM | Edges.RIGHT, start, 5, 9, grid, out);
+        check("next step", out, 0, 0, 108, 110);
+    }
+
+    private static void resizeRatio() {
+        Box start = new Box(0, 0, 1600, 900);
+        Box out = new Box();
+        SizeConstraints ratio = new SizeConstraints();
+        ratio.setAspectRatio(16D / 9D);
+
+        WindowGeometry.resize(Edges.RIGHT, start, 160, 0, ratio, out);
+        check("ratio by width", out, 0, 0, 1760, 990);
+
+        WindowGeometry.resize(Edges.BOTTOM, start, 0, 90, ratio, out);
+        check("ratio by height", out, 0, 0, 1760, 990);
+
+        // the limits of both axes are merged, the ratio is kept at the limit.
+        ratio.setMaximum(1920, 1000);
+        WindowGeometry.resize(Edges.BOTTOM | Edges.RIGHT, start, 1000, 1000, ratio, out);
+        check("ratio at the limit", out, 0, 0, 1777.7777777777778, 1000);
+
+        // the ratio applies to the content, the bar and the borders are added back.
+        Box framed = new Box(0, 0, 1610, 940);
+        SizeConstraints chrome = new SizeConstraints();
+        chrome.setBase(10, 40);
+        chrome.setAspectRatio(16D / 9D);
+        WindowGeometry.resize(Edges.RIGHT, framed, 160, 0, chrome, out);
+        check("ratio with base", out, 0, 0, 1770, 1030);
+
+        chrome.setMaximum(1930, 1040);
+        WindowGeometry.resize(Edges.BOTTOM | Edges.RIGHT, framed, 1000, 1000, chrome, out);
+        check("ratio with base at the limit", out, 0, 0, 1787.7777777777778, 1040);
+    }
+
+    private static void hitTest() {
+        check("inside", Edges.hitTest(400, 300, 800, 600, 3, 22) == Edges.NONE);
+        check("top", Edges.hitTest(400, 1, 800, 600, 3, 22) == Edges.TOP);
+        check("right", Edges.hitTest(799, 300, 800, 600, 3, 22) == Edges.RIGHT);
+        check("corner arm", Edges.hitTest(10, 1, 800, 600, 3, 22) == (Edges.TOP | Edges.LEFT));
+        check("bottom right", Edges.hitTest(799, 590, 800, 600, 3, 22) == (Edges.BOTTOM | Edges.RIGHT));
+    }
+
+    private static void restoreX() {
+        check("centered", WindowGeometry.restoreX(500, 400, 0, 1920) == 300);
+        check("kept inside the right side", WindowGeometry.restoreX(1900, 400, 0, 1920) == 1520);
+    }
+
+    private static void edgeIndex() {
+        EdgeIndex index = new EdgeIndex();
+        index.add(0, 1920, 0, 1080);
+        index.add(500, 900, 100, 400);
+
+        check("snaps the start", index.nearest(505, 200, 150, 350, 10) == -5);
+        check("snaps the end", index.nearest(296, 200, 150, 350, 10) == 4);
+        check("out of reach", Double.isNaN(index.nearest(530, 200, 150, 350, 10)));
+        check("no overlap on the other axis", index.nearest(505, 200, 450, 600, 10) != -5);
+        check("nearest of two", index.nearest(1913, 10, 0, 100, 10) == -3);
+    }
+
+    private static void check(String name, Box box, double x, double y, double width, double height) {
+        check(name + " " + box, Math.abs(box.getX() - x) < 1e-9 && Math.abs(box.getY() - y) < 1e-9
+                && Math.abs(box.getWidth() - width) < 1e-9 && Math.abs(box.getHeight() - height) < 1e-9);
+    }
+
+    private static void check(String name, boolean ok) {
+        checks++;
+        if (!ok) {
+            throw new AssertionError(name);
+        }
+    }
+}
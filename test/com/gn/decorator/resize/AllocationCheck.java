@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) Gleidson Neves da Silveira
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.gn.decorator.resize;
+
+import com.gn.decorator.geometry.Box;
+import com.gn.decorator.geometry.Edges;
+import com.gn.decorator.geometry.EdgeIndex;
+import com.gn.decorator.geometry.SizeConstraints;
+import com.gn.decorator.geometry.WindowGeometry;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Allocation check of the drag and resize math, run with no display.
+ * Drives the resize engine, the geometry core and the snap index with
+ * simulated pointer events and fails when one event allocates.
+ * The handlers of the decoration are not covered, the window bounds,
+ * the coalescer and the chrome state need a stage.
+ * Run with {@code java com.gn.decorator.resize.AllocationCheck}.
+ * Create on  17/10/2026
+ * Version 1.0
+ */
+public final class AllocationCheck {
+
+    private static final int WARMUP = 200_000;
+    private static final int EVENTS = 1_000_000;
+
+    private static final com.sun.management.ThreadMXBean THREADS
+            = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static double sink;
+
+    private AllocationCheck() {
+    }
+
+    public static void main(String[] args) {
+        ResizeEngine engine = new ResizeEngine();
+        engine.getConstraints().setStep(8, 16);
+        engine.getConstraints().setAspectRatio(16D / 9D);
+
+        Box start = new Box(100, 100, 800, 600);
+        Box out = new Box();
+        SizeConstraints constraints = new SizeConstraints();
+        constraints.setMinimum(254, 57);
+        constraints.setMaximum(1920, 1080);
+
+        EdgeIndex vertical = new EdgeIndex();
+        for (int i = 0; i < 64; i++) {
+            vertical.add(i * 97D, i * 97D + 640, i * 13D, i * 13D + 480);
+        }
+
+        check("ResizeEngine.update", engine, start, out, constraints, vertical, 0);
+        check("WindowGeometry.resize", engine, start, out, constraints, vertical, 1);
+        check("EdgeIndex.nearest", engine, start, out, constraints, vertical, 2);
+        check("Edges.hitTest", engine, start, out, constraints, vertical, 3);
+        System.out.println("no allocation per event, " + sink);
+    }
+
+    private static void check(String name, ResizeEngine engine, Box start, Box out,
+                              SizeConstraints constraints, EdgeIndex index, int path) {
+        run(engine, start, out, constraints, index, path, WARMUP);
+
+        long empty = allocated();
+        long overhead = allocated() - empty;
+
+        long before = allocated();
+        run(engine, start, out, constraints, index, path, EVENTS);
+        long bytes = allocated() - before - overhead;
+
+        long perEvent = bytes / EVENTS;
+        System.out.println(name + ": " + bytes + " bytes in " + EVENTS + " events, " + perEvent + " per event");
+        if (perEvent != 0) {
+            throw new AssertionError(name + " allocates " + perEvent + " bytes per event");
+        }
+    }
+
+    private static void run(ResizeEngine engine, Box start, Box out, SizeConstraints constraints,
+                            EdgeIndex index, int path, int events) {
+        engine.begin(ResizeZone.BOTTOM_RIGHT, 900, 700, 100, 100, 800, 600, 254, 57, 1920, 1080);
+        double total = 0;
+        for (int i = 0; i < events; i++) {
+            double dx = (i % 400) - 200;
+            double dy = (i % 300) - 150;
+            switch (path) {
+                case 0:
+                    engine.update(900 + dx, 700 + dy);
+                    total += engine.getWidth();
+                    break;
+                case 1:
+                    WindowGeometry.resize(Edges.TOP | Edges.LEFT, start, dx, dy, constraints, out);
+                    total += out.getWidth();
+                    break;
+                case 2:
+                    double delta = index.nearest(dx * 10, 640, dy, dy + 480, 10);
+                    total += Double.isNaN(delta) ? 0 : delta;
+                    break;
+                default:
+                    total += Edges.hitTest(dx + 200, dy + 150, 400, 300, 3, 22);
+                    break;
+            }
+        }
+        engine.end();
+        sink += total;
+    }
+
+    private static long allocated() {
+        return THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) Gleidson Neves da Silveira
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.gn.decorator.resize;
+
+/**
+ * Check of the frame budget of the coalescer, run with no display.
+ * Drives the pulses by hand, a frame that takes longer than the budget
+ * holds the bounds applied after it and the next pulse commits only the
+ * latest of them.
+ * Run with {@code java com.gn.decorator.resize.CoalescerCheck}.
+ * Create on  17/10/2026
+ * Version 1.0
+ */
+public final class CoalescerCheck {
+
+    private static final int FRAMES = 30;
+    private static final int EVENTS = 8;
+
+    private static final long BUDGET = 4_000_000L;
+
+    private static int commits;
+
+    private CoalescerCheck() {
+    }
+
+    public static void main(String[] args) {
+        BoundsCoalescer coalescer = new BoundsCoalescer((x, y, width, height) -> commits++);
+        coalescer.setFrameBudget(BUDGET / 1_000_000D);
+
+        // the frames end before the budget, every bounds reaches the window.
+        int applied = run(coalescer, 0);
+        check("within budget", applied == FRAMES * EVENTS, applied + " commits");
+
+        // the frames take longer than the budget, only one bounds per pulse.
+        applied = run(coalescer, BUDGET * 2);
+        check("over budget", applied <= FRAMES + 1, applied + " commits");
+        check("dropped", coalescer.getMergedCount() >= (long) (FRAMES - 1) * (EVENTS - 1),
+                coalescer.getMergedCount() + " bounds replaced");
+        System.out.println("frame budget holds the bounds of slow frames");
+    }
+
+    /**
+     * @param work Time each frame takes after its pulse started.
+     * @return Number of bounds applied in the window.
+     */
+    private static int run(BoundsCoalescer coalescer, long work) {
+        coalescer.resetStatistics();
+        commits = 0;
+        for (int frame = 0; frame < FRAMES; frame++) {
+            long pulse = System.nanoTime();
+            coalescer.handle(pulse);
+            while (System.nanoTime() - pulse < work) {
+                // css, layout and render of the frame.
+            }
+            for (int i = 0; i < EVENTS; i++) {
+                coalescer.apply(frame, i, 800, 600);
+            }
+        }
+        coalescer.handle(System.nanoTime());
+        coalescer.flush();
+        return commits;
+    }
+
+    private static void check(String name, boolean passed, String detail) {
+        System.out.println(name + ": " + detail);
+        if (!passed) {
+            throw new AssertionError(name + ", " + detail);
+        }
+    }
+}